@@ -0,0 +1,77 @@
+package io.github.xpakx.battleships.benchmarks.game;
+
+import io.github.xpakx.battleships.benchmarks.Boards;
+import io.github.xpakx.battleships.game.GameState;
+import io.github.xpakx.battleships.game.board.Board;
+import io.github.xpakx.battleships.game.board.BoardCodec;
+import io.github.xpakx.battleships.game.dto.GameMessage;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardCodecBenchmark {
+    @Param({"10", "16", "32"})
+    int size;
+
+    String state;
+    Board board;
+    byte[] encoded;
+    GameState game;
+
+    @Setup
+    public void setUp() {
+        var random = new Random(size);
+        state = Boards.randomState(size, random);
+        board = Board.of(state);
+        encoded = BoardCodec.encode(state);
+        game = new GameState();
+        game.setUsername1("user1");
+        game.setUsername2("user2");
+        game.setUserCurrentState(state);
+        game.setOpponentCurrentState(Boards.randomState(size, random));
+        game.setUserShips(Boards.randomShips(size, random));
+        game.setOpponentShips(Boards.randomShips(size, random));
+    }
+
+    @Benchmark
+    public Board parseBoard() {
+        return Board.of(state);
+    }
+
+    @Benchmark
+    public String printBoard() {
+        return board.toString();
+    }
+
+    @Benchmark
+    public byte[] encodeState() {
+        return BoardCodec.encode(state);
+    }
+
+    @Benchmark
+    public String decodeState() {
+        return BoardCodec.decode(encoded);
+    }
+
+    @Benchmark
+    public Board decodeBoard() {
+        return BoardCodec.toBoard(encoded);
+    }
+
+    @Benchmark
+    public String[][] stringToBoard() {
+        return Board.of(state).toSymbols();
+    }
+
+    @Benchmark
+    public GameMessage gameMessage() {
+        return GameMessage.of(game);
+    }
+}
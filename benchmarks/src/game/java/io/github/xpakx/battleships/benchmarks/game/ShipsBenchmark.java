@@ -0,0 +1,74 @@
+package io.github.xpakx.battleships.benchmarks.game;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.github.xpakx.battleships.benchmarks.Boards;
+import io.github.xpakx.battleships.game.board.Board;
+import io.github.xpakx.battleships.game.board.Field;
+import io.github.xpakx.battleships.game.board.ShipTable;
+import io.github.xpakx.battleships.game.dto.Ship;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ShipsBenchmark {
+    private static final TypeReference<List<Ship>> SHIPS = new TypeReference<>(){};
+
+    @Param({"10", "16", "32"})
+    int size;
+
+    String json;
+    List<Ship> ships;
+    ShipTable table;
+    Board board;
+    ObjectWriter writer;
+
+    @Setup
+    public void setUp() throws Exception {
+        var random = new Random(size);
+        json = Boards.randomShips(size, random);
+        ships = new ObjectMapper().readValue(json, SHIPS);
+        table = ShipTable.of(ships);
+        board = Board.of(Boards.randomState(size, random));
+        for (int ship = 0; ship < table.count(); ship += 2) {
+            table.mark(board, ship, Field.Sunk);
+        }
+        table.countHits(board);
+        writer = new ObjectMapper().writerFor(SHIPS);
+    }
+
+    @Benchmark
+    public Optional<ShipTable> parseShipTable() {
+        return ShipTable.parse(json);
+    }
+
+    @Benchmark
+    public List<Ship> parseShipsWithNewMapper() throws Exception {
+        return new ObjectMapper().readValue(json, SHIPS);
+    }
+
+    @Benchmark
+    public String writeShipsWithNewMapper() throws Exception {
+        return new ObjectMapper().writeValueAsString(ships);
+    }
+
+    @Benchmark
+    public String writeShipsWithSharedWriter() throws Exception {
+        return writer.writeValueAsString(ships);
+    }
+
+    @Benchmark
+    public List<Integer> remainingShips() {
+        return table.remainingSizes();
+    }
+}
@@ -0,0 +1,54 @@
+package io.github.xpakx.battleships.benchmarks.main;
+
+import io.github.xpakx.battleships.benchmarks.Boards;
+import io.github.xpakx.battleships.game.Game;
+import io.github.xpakx.battleships.game.GameRuleset;
+import io.github.xpakx.battleships.game.GameType;
+import io.github.xpakx.battleships.game.dto.GameSummary;
+import io.github.xpakx.battleships.user.User;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameSummaryBenchmark {
+    @Param({"10", "16", "32"})
+    int size;
+
+    Game game;
+
+    @Setup
+    public void setUp() {
+        var random = new Random(size);
+        var user = new User();
+        user.setUsername("user1");
+        var opponent = new User();
+        opponent.setUsername("user2");
+        game = new Game();
+        game.setId(1L);
+        game.setType(GameType.USER);
+        game.setRuleset(GameRuleset.Classic);
+        game.setUser(user);
+        game.setOpponent(opponent);
+        game.setUserCurrentState(Boards.randomState(size, random));
+        game.setOpponentCurrentState(Boards.randomState(size, random));
+        game.setUserShips(Boards.randomShips(size, random));
+        game.setOpponentShips(Boards.randomShips(size, random));
+    }
+
+    @Benchmark
+    public GameSummary summaryForPlayer() {
+        return GameSummary.of(game, "user1");
+    }
+
+    @Benchmark
+    public GameSummary summaryForObserver() {
+        return GameSummary.of(game, "observer");
+    }
+}
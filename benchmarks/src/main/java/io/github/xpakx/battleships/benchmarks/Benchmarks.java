@@ -0,0 +1,17 @@
+package io.github.xpakx.battleships.benchmarks;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+
+import java.util.Arrays;
+
+public class Benchmarks {
+    public static void main(String[] args) throws Exception {
+        if (new CommandLineOptions(args).getProfilers().isEmpty()) {
+            args = Arrays.copyOf(args, args.length + 2);
+            args[args.length - 2] = "-prof";
+            args[args.length - 1] = "gc";
+        }
+        Main.main(args);
+    }
+}
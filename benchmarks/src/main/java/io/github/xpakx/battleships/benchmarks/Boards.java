@@ -0,0 +1,73 @@
+package io.github.xpakx.battleships.benchmarks;
+
+import java.util.Random;
+
+public class Boards {
+    private static final char[] SYMBOLS = {'?', 'o', '.', 'x'};
+    private static final int[] SHIP_SIZES = {5, 4, 3, 3, 2};
+
+    public static String randomState(int size, Random random) {
+        var builder = new StringBuilder(size * (size + 1));
+        for (int row = 0; row < size; row++) {
+            if (row > 0) {
+                builder.append('|');
+            }
+            for (int column = 0; column < size; column++) {
+                builder.append(random.nextInt(3) == 0 ? SYMBOLS[random.nextInt(4)] : '?');
+            }
+        }
+        return builder.toString();
+    }
+
+    public static String emptyState(int size) {
+        var builder = new StringBuilder(size * (size + 1));
+        for (int row = 0; row < size; row++) {
+            if (row > 0) {
+                builder.append('|');
+            }
+            builder.append("?".repeat(size));
+        }
+        return builder.toString();
+    }
+
+    public static String randomShips(int size, Random random) {
+        var taken = new boolean[size][size];
+        var builder = new StringBuilder("[");
+        var count = 0;
+        var fleets = Math.max(1, (size * size) / 100);
+        for (int fleet = 0; fleet < fleets; fleet++) {
+            for (var length : SHIP_SIZES) {
+                for (int attempt = 0; attempt < 100; attempt++) {
+                    var vertical = random.nextBoolean();
+                    var row = random.nextInt(vertical ? size - length + 1 : size);
+                    var column = random.nextInt(vertical ? size : size - length + 1);
+                    if (!isFree(taken, row, column, length, vertical)) {
+                        continue;
+                    }
+                    for (int cell = 0; cell < length; cell++) {
+                        taken[vertical ? row + cell : row][vertical ? column : column + cell] = true;
+                    }
+                    if (count++ > 0) {
+                        builder.append(',');
+                    }
+                    builder.append("{\"headX\":").append(row)
+                            .append(",\"headY\":").append(column)
+                            .append(",\"size\":").append(length)
+                            .append(",\"orientation\":\"").append(vertical ? "Vertical" : "Horizontal")
+                            .append("\"}");
+                    break;
+                }
+            }
+        }
+        return builder.append(']').toString();
+    }
+
+    private static boolean isFree(boolean[][] taken, int row, int column, int length, boolean vertical) {
+        for (int cell = 0; cell < length; cell++) {
+            if (taken[vertical ? row + cell : row][vertical ? column : column + cell]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -8,6 +8,7 @@ import { Pair } from '../dto/pair';
 import { PlacementMessage } from '../dto/placement-message';
 import { GameManagementService } from 'src/app/main/game-management.service';
 import { Game } from 'src/app/main/dto/game';
+import { CellChange } from '../dto/cell-change';
 
 @Component({
   selector: 'app-board',
@@ -19,6 +20,7 @@ export class BoardComponent implements OnInit {
   myBoard: ("Sunk" | "Hit" | "Miss" | "Empty")[][] = Array(10).fill(Array(10).fill("Empty"));
   opponentBoard: ("Sunk" | "Hit" | "Miss" | "Empty")[][] = Array(10).fill(Array(10).fill("Empty"));
   game?: BoardMessage;
+  sequence: number = 0;
   error: String[][] = Array(10).fill(Array(10).fill(""));
   myShips: Ship[] = [];
   head?: Pair = undefined;
@@ -81,16 +83,8 @@ export class BoardComponent implements OnInit {
       return;
     }
     let currentUser = localStorage.getItem("username");
-    if (currentUser == this.game?.username1 || currentUser == this.game?.username2) {
-      if (currentUser == move.player) {
-        this.opponentBoard[move.x][move.y] = move.result;
-      } else {
-        this.myBoard[move.x][move.y] = move.result;
-      }
-    } else if (move.player == this.game?.username1) {
-        this.opponentBoard[move.x][move.y] = move.result;
-    } else {
-        this.myBoard[move.x][move.y] = move.result;
+    if (this.isInSequence(move)) {
+      this.applyChanges(move, currentUser);
     }
 
     if (move.finished) {
@@ -105,6 +99,39 @@ export class BoardComponent implements OnInit {
     }
   }
 
+  isInSequence(move: MoveMessage): boolean {
+    if (!this.game || move.sequence == undefined) {
+      return true;
+    }
+    if (move.sequence <= this.sequence) {
+      return false;
+    }
+    if (move.sequence > this.sequence + 1) {
+      if (this._gameId != undefined) {
+        this.websocket.requestBoard(this._gameId);
+      }
+      return false;
+    }
+    this.sequence = move.sequence;
+    return true;
+  }
+
+  applyChanges(move: MoveMessage, currentUser: String | null) {
+    let board = this.myBoard;
+    if (currentUser == this.game?.username1 || currentUser == this.game?.username2) {
+      if (currentUser == move.player) {
+        board = this.opponentBoard;
+      }
+    } else if (move.player == this.game?.username1) {
+        board = this.opponentBoard;
+    }
+    if (move.changes) {
+      move.changes.forEach((change: CellChange) => board[change.x][change.y] = change.field);
+    } else {
+      board[move.x][move.y] = move.result;
+    }
+  }
+
   place(row: number, column: number) {
     if (this._gameId == undefined) {
       return;
@@ -222,6 +249,7 @@ export class BoardComponent implements OnInit {
     }
 
     this.game = board;
+    this.sequence = board.sequence ?? 0;
 
     let currentUser = localStorage.getItem("username");
     if (currentUser == board.username1) {
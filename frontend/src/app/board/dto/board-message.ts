@@ -7,6 +7,7 @@ export interface BoardMessage {
     state2: ("Sunk" | "Hit" | "Miss" | "Empty")[][];
     currentPlayer: String;
     gameStarted: boolean;
+    sequence?: number;
 
     error?: String;
 }
\ No newline at end of file
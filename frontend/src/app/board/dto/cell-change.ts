@@ -0,0 +1,5 @@
+export interface CellChange {
+    x: number;
+    y: number;
+    field: "Sunk" | "Hit" | "Miss" | "Empty";
+}
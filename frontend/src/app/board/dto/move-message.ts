@@ -1,3 +1,5 @@
+import { CellChange } from "./cell-change";
+
 export interface MoveMessage {
     player: String;
     x: number;
@@ -11,4 +13,7 @@ export interface MoveMessage {
     finished: boolean ;
     won: boolean ;
     winner?: String;
+
+    sequence?: number;
+    changes?: CellChange[];
 }
\ No newline at end of file
@@ -55,6 +55,7 @@ describe('WebsocketService', () => {
     const gameId = 123;
     service.subscribeMoves(gameId);
     expect(rxStompSpy.watch).toHaveBeenCalledWith(`/topic/game/${gameId}`);
+    expect(rxStompSpy.watch).toHaveBeenCalledWith(`/user/queue/game/${gameId}`);
   });
 
   it('subscribePlacement() should watch for placement messages on WebSocket server', () => {
@@ -64,6 +65,7 @@ describe('WebsocketService', () => {
     const gameId = 123;
     service.subscribePlacement(gameId);
     expect(rxStompSpy.watch).toHaveBeenCalledWith(`/topic/placement/${gameId}`);
+    expect(rxStompSpy.watch).toHaveBeenCalledWith(`/user/queue/placement/${gameId}`);
   });
 
   it('subscribeChat() should watch for chat messages on WebSocket server', () => {
@@ -22,10 +22,12 @@ export class WebsocketService {
 
   private moveSubject: Subject<MoveMessage> = new Subject<MoveMessage>();
   private moveQueue?: Subscription;
+  private moveUserQueue?: Subscription;
   move$: Observable<MoveMessage> = this.moveSubject.asObservable();
 
   private placementSubject: Subject<PlacementMessage> = new Subject<PlacementMessage>();
   private placementQueue?: Subscription;
+  private placementUserQueue?: Subscription;
   placement$: Observable<PlacementMessage> = this.placementSubject.asObservable();
 
   private chatQueue?: Subscription;
@@ -67,11 +69,21 @@ export class WebsocketService {
   }
 
   makeMove(gameId: number, move: MoveRequest) {
-    this.rxStomp.publish({ destination: `/app/move/${gameId}`, body: JSON.stringify(move) });
+    this.rxStomp.publish({ destination: `/app/move/${gameId}`, body: JSON.stringify(move), headers: this.traceHeaders() });
   }
 
   placeShips(gameId: number, move: PlacementRequest) {
-    this.rxStomp.publish({ destination: `/app/placement/${gameId}`, body: JSON.stringify(move) });
+    this.rxStomp.publish({ destination: `/app/placement/${gameId}`, body: JSON.stringify(move), headers: this.traceHeaders() });
+  }
+
+  private traceHeaders(): { [key: string]: string } {
+    return { traceparent: `00-${this.randomHex(16)}-${this.randomHex(8)}-01` };
+  }
+
+  private randomHex(bytes: number): string {
+    return Array.from(crypto.getRandomValues(new Uint8Array(bytes)))
+      .map((b) => b.toString(16).padStart(2, '0'))
+      .join('');
   }
 
   subscribeGame(gameId: number) {
@@ -85,9 +97,11 @@ export class WebsocketService {
   unsubscribe() {
     this.chatQueue?.unsubscribe();
     this.moveQueue?.unsubscribe();
+    this.moveUserQueue?.unsubscribe();
     this.boardQueue?.unsubscribe();
     this.boardOOB?.unsubscribe();
     this.placementQueue?.unsubscribe();
+    this.placementUserQueue?.unsubscribe();
   }
 
   disconnect() {
@@ -101,6 +115,12 @@ export class WebsocketService {
         let move: MoveMessage = JSON.parse(message.body)
         this.moveSubject.next(move);
       });
+    this.moveUserQueue = this.rxStomp
+      .watch(`/user/queue/game/${gameId}`)
+      .subscribe((message: IMessage) => {
+        let move: MoveMessage = JSON.parse(message.body)
+        this.moveSubject.next(move);
+      });
   }
 
   subscribePlacement(gameId: number) {
@@ -110,21 +130,32 @@ export class WebsocketService {
         let move: PlacementMessage = JSON.parse(message.body)
         this.placementSubject.next(move);
       });
+    this.placementUserQueue = this.rxStomp
+      .watch(`/user/queue/placement/${gameId}`)
+      .subscribe((message: IMessage) => {
+        let placement: PlacementMessage = JSON.parse(message.body)
+        this.placementSubject.next(placement);
+      });
   }
 
   subscribeBoard(gameId: number) {
-    this.boardOOB = this.rxStomp
-      .watch(`/app/board/${gameId}`)
+    this.boardQueue = this.rxStomp
+      .watch(`/topic/board/${gameId}`)
       .subscribe((message: IMessage) => {
         let board: BoardMessage = JSON.parse(message.body)
         this.boardSubject.next(board);
-        this.boardOOB?.unsubscribe();
       });
-    this.boardQueue = this.rxStomp
-      .watch(`/topic/board/${gameId}`)
+    this.requestBoard(gameId);
+  }
+
+  requestBoard(gameId: number) {
+    this.boardOOB?.unsubscribe();
+    this.boardOOB = this.rxStomp
+      .watch(`/app/board/${gameId}`)
       .subscribe((message: IMessage) => {
         let board: BoardMessage = JSON.parse(message.body)
         this.boardSubject.next(board);
+        this.boardOOB?.unsubscribe();
       });
   }
 
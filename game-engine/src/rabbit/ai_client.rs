@@ -1,7 +1,7 @@
 use lapin::{Channel, options::BasicAckOptions, message::DeliveryResult, Consumer};
 
 use serde::{Serialize, Deserialize};
-use crate::{rabbit::DESTINATION_EXCHANGE, ai::{get_engine, EngineType, Engine}, data::{BoardState, BoardDefinition}, get_board_definition, RuleSet, get_ship_sizes};
+use crate::{rabbit::{DESTINATION_EXCHANGE, reply_properties}, ai::{get_engine, EngineType, Engine}, data::{BoardState, BoardDefinition}, get_board_definition, RuleSet, get_ship_sizes};
 
 pub fn set_delegate(consumer: Consumer, channel: Channel) {
     consumer.set_delegate({
@@ -19,6 +19,7 @@ pub fn set_delegate(consumer: Consumer, channel: Channel) {
                     }
                 };
 
+                let properties = reply_properties(&delivery);
                 let message = std::str::from_utf8(&delivery.data).unwrap();
                 let move_msg: AIMessage = match serde_json::from_str(message) {
                     Ok(msg) => msg,
@@ -45,14 +46,13 @@ pub fn set_delegate(consumer: Consumer, channel: Channel) {
                 if let Err(err) = channel
                     .basic_publish(
                         DESTINATION_EXCHANGE,
-                        match &move_msg.phase {
-                            Phase::Move => "ai.move",
-                            Phase::Placement => "placement"
-                            
+                        &match &move_msg.phase {
+                            Phase::Move => format!("ai.move.{}", move_msg.game_id),
+                            Phase::Placement => format!("placement.{}", move_msg.game_id),
                         },
                         Default::default(),
                         response.into_bytes().as_slice(),
-                        Default::default(),
+                        properties,
                         )
                         .await {
                             println!("Failed to publish message to destination exchange: {:?}", err);
@@ -1,4 +1,4 @@
-use lapin::{Connection, ConnectionProperties, options::{BasicConsumeOptions, QueueBindOptions, QueueDeclareOptions, ExchangeDeclareOptions}, types::FieldTable, ExchangeKind};
+use lapin::{Connection, ConnectionProperties, options::{BasicConsumeOptions, QueueBindOptions, QueueDeclareOptions, ExchangeDeclareOptions}, types::FieldTable, ExchangeKind, BasicProperties, message::Delivery};
 mod move_client;
 mod placement_client;
 mod ai_client;
@@ -9,6 +9,24 @@ const MOVES_QUEUE: &str = "battleships.moves.queue";
 const PLACEMENT_QUEUE: &str = "battleships.moves.placement.queue";
 const AI_QUEUE: &str = "battleships.moves.ai.queue";
 pub const DESTINATION_EXCHANGE: &str = "battleships.engine.topic";
+const TRACE_HEADERS: [&str; 3] = ["traceparent", "tracestate", "baggage"];
+
+pub fn reply_properties(delivery: &Delivery) -> BasicProperties {
+    let mut properties = BasicProperties::default();
+    if let Some(id) = delivery.properties.correlation_id() {
+        properties = properties.with_correlation_id(id.clone());
+    }
+    if let Some(incoming) = delivery.properties.headers() {
+        let mut headers = FieldTable::default();
+        for (key, value) in incoming.inner() {
+            if TRACE_HEADERS.contains(&key.as_str()) {
+                headers.insert(key.clone(), value.clone());
+            }
+        }
+        properties = properties.with_headers(headers);
+    }
+    properties
+}
 
 pub async fn consumer(rabbit_uri: &str) -> Result<(), lapin::Error> {
     println!("{}", rabbit_uri);
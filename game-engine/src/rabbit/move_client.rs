@@ -1,7 +1,7 @@
 use lapin::{Channel, options::BasicAckOptions, message::DeliveryResult, Consumer};
 
 use serde::{Serialize, Deserialize};
-use crate::{rabbit::DESTINATION_EXCHANGE, data::{BoardState, Ship, Pos, Field}, move_result, MoveResult, validator, get_ship_sizes};
+use crate::{rabbit::{DESTINATION_EXCHANGE, reply_properties}, data::{BoardState, Ship, Pos, Field}, move_result, MoveResult, validator, get_ship_sizes};
 
 use super::ai_client::{ShipMsg, to_rule_set, ReqRuleSet};
 use crate::data::Orientation;
@@ -22,6 +22,7 @@ pub fn set_delegate(consumer: Consumer, channel: Channel) {
                     }
                 };
 
+                let properties = reply_properties(&delivery);
                 let message = std::str::from_utf8(&delivery.data).unwrap();
                 let move_msg: MoveMessage = match serde_json::from_str(message) {
                     Ok(msg) => msg,
@@ -39,10 +40,10 @@ pub fn set_delegate(consumer: Consumer, channel: Channel) {
                 if let Err(err) = channel
                     .basic_publish(
                         DESTINATION_EXCHANGE,
-                        "validation.move",
+                        &format!("validation.move.{}", move_msg.game_id),
                         Default::default(),
                         response.into_bytes().as_slice(),
-                        Default::default(),
+                        properties,
                         )
                         .await {
                             println!("Failed to publish message to destination exchange: {:?}", err);
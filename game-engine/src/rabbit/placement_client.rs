@@ -1,7 +1,7 @@
 use lapin::{Channel, options::BasicAckOptions, message::DeliveryResult, Consumer};
 
 use serde::{Serialize, Deserialize};
-use crate::{rabbit::DESTINATION_EXCHANGE, data::{Ship, Pos, Orientation}, validator::{check_ship_placement, check_ships_are_on_board, check_all_ships_are_placed}};
+use crate::{rabbit::{DESTINATION_EXCHANGE, reply_properties}, data::{Ship, Pos, Orientation}, validator::{check_ship_placement, check_ships_are_on_board, check_all_ships_are_placed}};
 
 use super::ai_client::{ShipMsg, ReqRuleSet, to_board_definition};
 
@@ -21,6 +21,7 @@ pub fn set_delegate(consumer: Consumer, channel: Channel) {
                     }
                 };
 
+                let properties = reply_properties(&delivery);
                 let message = std::str::from_utf8(&delivery.data).unwrap();
                 let move_msg: PlacementMessage = match serde_json::from_str(message) {
                     Ok(msg) => msg,
@@ -39,10 +40,10 @@ pub fn set_delegate(consumer: Consumer, channel: Channel) {
                 if let Err(err) = channel
                     .basic_publish(
                         DESTINATION_EXCHANGE,
-                        "placement",
+                        &format!("placement.{}", move_msg.game_id),
                         Default::default(),
                         response.into_bytes().as_slice(),
-                        Default::default(),
+                        properties,
                         )
                         .await {
                             println!("Failed to publish message to destination exchange: {:?}", err);
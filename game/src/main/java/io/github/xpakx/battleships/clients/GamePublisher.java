@@ -1,6 +1,7 @@
 package io.github.xpakx.battleships.clients;
 
 import io.github.xpakx.battleships.clients.event.GameEvent;
+import io.github.xpakx.battleships.clients.event.WarmupEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.amqp.core.AmqpTemplate;
@@ -24,4 +25,11 @@ public class GamePublisher {
         event.setGameId(gameId);
         template.convertAndSend(gamesTopic, "game", event);
     }
+
+    public void requestWarmup(int pageSize) {
+        logger.debug("Asking main service for all active games");
+        WarmupEvent event = new WarmupEvent();
+        event.setPageSize(pageSize);
+        template.convertAndSend(gamesTopic, "warmup", event);
+    }
 }
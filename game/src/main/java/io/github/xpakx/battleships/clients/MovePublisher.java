@@ -1,44 +1,53 @@
 package io.github.xpakx.battleships.clients;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import io.github.xpakx.battleships.clients.event.AIEvent;
 import io.github.xpakx.battleships.clients.event.MoveEvent;
 import io.github.xpakx.battleships.clients.event.Phase;
 import io.github.xpakx.battleships.clients.event.PlacementEvent;
+import io.github.xpakx.battleships.game.EngineRequestType;
+import io.github.xpakx.battleships.game.EngineRequests;
 import io.github.xpakx.battleships.game.GameRuleset;
 import io.github.xpakx.battleships.game.GameState;
-import io.github.xpakx.battleships.game.dto.GameMessage;
-import io.github.xpakx.battleships.game.dto.Ship;
+import io.github.xpakx.battleships.game.board.ShipTable;
 import org.springframework.amqp.core.AmqpTemplate;
+import org.springframework.amqp.core.MessagePostProcessor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
-import java.util.Optional;
 
 @Service
 public class MovePublisher {
     private final AmqpTemplate template;
     private final String movesTopic;
+    private final EngineRequests requests;
 
-    public MovePublisher(AmqpTemplate template, @Value("${amqp.exchange.moves}") String movesTopic) {
+    public MovePublisher(AmqpTemplate template, @Value("${amqp.exchange.moves}") String movesTopic, EngineRequests requests) {
         this.template = template;
         this.movesTopic = movesTopic;
+        this.requests = requests;
     }
 
-    public void sendHit(int x, int y, String gameState, String targets, Long gameId, GameRuleset rules) {
+    public String sendHit(int x, int y, String gameState, ShipTable targets, Long gameId, GameRuleset rules, String username) {
+        var correlationId = requests.registerMove(gameId, username, x, y);
         MoveEvent event = new MoveEvent();
         event.setGameId(gameId);
         event.setGameState(gameState);
-        event.setTargets(targets);
+        event.setTargets(targets != null ? targets.toJson() : null);
         event.setRow(x);
         event.setColumn(y);
         event.setRuleset(rules);
-        template.convertAndSend(movesTopic, "move", event);
+        template.convertAndSend(movesTopic, "move", event, withCorrelation(correlationId));
+        return correlationId;
     }
 
     public void sendAIEvent(GameState game, Phase phase) {
+        sendAIEvent(game, phase, 0);
+    }
+
+    public void sendAIEvent(GameState game, Phase phase, int attempt) {
+        var type = phase == Phase.Move ? EngineRequestType.AIMove : EngineRequestType.AIPlacement;
+        var correlationId = requests.register(game.getId(), type, null, attempt);
         var event = new AIEvent();
         event.setGameId(game.getId());
         event.setGameState(game.getCurrentState());
@@ -46,44 +55,32 @@ public class MovePublisher {
         event.setType(game.getAiType());
         event.setRuleset(game.getRuleset());
         event.setRemainingShips(getRemainingShips(game));
-        template.convertAndSend(movesTopic, "ai", event);
+        template.convertAndSend(movesTopic, "ai", event, withCorrelation(correlationId));
     }
 
     private List<Integer> getRemainingShips(GameState game) {
         if (!game.isGameStarted()) {
             return null;
         }
-        var ships = stringToShips(game.getUserShips());
-        if (ships.isEmpty()) {
-            return null;
-        }
-
-        var msg = GameMessage.of(game);
-        return ships.get()
-                .stream()
-                .filter((ship) -> {
-                    var value = msg.getState1()[ship.getHeadX()][ship.getHeadY()];
-                    return !value.equals("Sunk");
-                })
-                .map(Ship::getSize)
-                .toList();
-    }
-
-    private static Optional<List<Ship>> stringToShips(String userShips) {
-        ObjectMapper objectMapper = new ObjectMapper();
-        try {
-            return Optional.ofNullable(objectMapper.readValue(userShips, new TypeReference<List<Ship>>(){}));
-        } catch (Exception e) {
-            return Optional.empty();
-        }
+        return game.getUserShipTable().map(ShipTable::remainingSizes).orElse(null);
     }
 
-    public void sendPlacement(Long gameId, GameState game, boolean firstUser, String ships) {
+    public String sendPlacement(Long gameId, GameState game, boolean firstUser, ShipTable ships) {
+        var username = firstUser ? game.getUsername1() : game.getUsername2();
+        var correlationId = requests.register(gameId, EngineRequestType.Placement, username, 0);
         var event = new PlacementEvent();
         event.setGameId(gameId);
         event.setFirstUser(firstUser);
-        event.setShips(ships);
+        event.setShips(ships.toJson());
         event.setRuleset(game.getRuleset());
-        template.convertAndSend(movesTopic, "placement", event);
+        template.convertAndSend(movesTopic, "placement", event, withCorrelation(correlationId));
+        return correlationId;
+    }
+
+    private MessagePostProcessor withCorrelation(String correlationId) {
+        return (message) -> {
+            message.getMessageProperties().setCorrelationId(correlationId);
+            return message;
+        };
     }
 }
\ No newline at end of file
@@ -2,7 +2,9 @@ package io.github.xpakx.battleships.clients;
 
 import io.github.xpakx.battleships.clients.event.UpdateEvent;
 import io.github.xpakx.battleships.game.GameState;
+import io.github.xpakx.battleships.game.board.ShipTable;
 import org.springframework.amqp.core.AmqpTemplate;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
@@ -13,7 +15,7 @@ public class StatePublisher {
     private final AmqpTemplate template;
     private final String updatesTopic;
 
-    public StatePublisher(AmqpTemplate template, @Value("${amqp.exchange.updates}") String updatesTopic) {
+    public StatePublisher(@Qualifier("updatesRabbitTemplate") AmqpTemplate template, @Value("${amqp.exchange.updates}") String updatesTopic) {
         this.template = template;
         this.updatesTopic = updatesTopic;
     }
@@ -33,8 +35,8 @@ public class StatePublisher {
 
         event.setUserCurrentState(game.getUserCurrentState());
         event.setOpponentCurrentState(game.getOpponentCurrentState());
-        event.setUserShips(game.getUserShips());
-        event.setOpponentShips(game.getOpponentShips());
+        event.setUserShips(game.getUserShipTable().map(ShipTable::toJson).orElse(null));
+        event.setOpponentShips(game.getOpponentShipTable().map(ShipTable::toJson).orElse(null));
 
         event.setUserTurn(game.isFirstUserTurn());
         event.setTimestamp(LocalDateTime.now());
@@ -0,0 +1,116 @@
+package io.github.xpakx.battleships.cluster;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeType;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public abstract class AbstractTopicRelay implements TopicRelay {
+    public static final String TOPIC_PREFIX = "/topic/";
+    public static final String RELAYED_HEADER = "relayed";
+    private final MessageChannel brokerChannel;
+    private final String nodeId;
+    private final Set<String> destinations = ConcurrentHashMap.newKeySet();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("topic-relay").daemon().factory()
+    );
+    Logger logger = LoggerFactory.getLogger(AbstractTopicRelay.class);
+
+    protected AbstractTopicRelay(MessageChannel brokerChannel, String nodeId) {
+        this.brokerChannel = brokerChannel;
+        this.nodeId = nodeId;
+    }
+
+    protected abstract void send(String destination, byte[] frame);
+
+    protected abstract void bind(String destination);
+
+    protected abstract void unbind(String destination);
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        var headers = message.getHeaders();
+        var destination = SimpMessageHeaderAccessor.getDestination(headers);
+        if (SimpMessageHeaderAccessor.getMessageType(headers) != SimpMessageType.MESSAGE
+                || destination == null
+                || !destination.startsWith(TOPIC_PREFIX)
+                || headers.containsKey(RELAYED_HEADER)
+                || !(message.getPayload() instanceof byte[] payload)) {
+            return message;
+        }
+        var contentType = headers.get(MessageHeaders.CONTENT_TYPE);
+        try {
+            send(destination, new RelayFrame(nodeId, destination, contentType != null ? contentType.toString() : null, payload).toBytes());
+        } catch (Exception e) {
+            logger.warn("Cannot relay message to {}: {}", destination, e.getMessage());
+        }
+        return message;
+    }
+
+    @Override
+    public void interest(String destination, boolean interested) {
+        if (!destination.startsWith(TOPIC_PREFIX)) {
+            return;
+        }
+        executor.execute(() -> {
+            try {
+                if (interested) {
+                    destinations.add(destination);
+                    bind(destination);
+                } else {
+                    destinations.remove(destination);
+                    unbind(destination);
+                }
+            } catch (Exception e) {
+                logger.warn("Cannot update relay interest in {}: {}", destination, e.getMessage());
+            }
+        });
+    }
+
+    protected void rebindAll() {
+        executor.execute(() -> {
+            logger.debug("Restoring relay interest in {} destinations", destinations.size());
+            for (var destination : destinations) {
+                try {
+                    bind(destination);
+                } catch (Exception e) {
+                    logger.warn("Cannot restore relay interest in {}: {}", destination, e.getMessage());
+                }
+            }
+        });
+    }
+
+    protected void deliver(byte[] bytes) {
+        var frame = RelayFrame.fromBytes(bytes);
+        if (frame.getOrigin().equals(nodeId)) {
+            return;
+        }
+        var accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(frame.getDestination());
+        if (frame.getContentType() != null) {
+            accessor.setContentType(MimeType.valueOf(frame.getContentType()));
+        }
+        accessor.setHeader(RELAYED_HEADER, true);
+        brokerChannel.send(MessageBuilder.createMessage(frame.getPayload(), accessor.getMessageHeaders()));
+    }
+
+    public int getDestinationCount() {
+        return destinations.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
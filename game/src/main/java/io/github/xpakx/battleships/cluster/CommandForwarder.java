@@ -0,0 +1,69 @@
+package io.github.xpakx.battleships.cluster;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.AmqpTemplate;
+import org.springframework.amqp.rabbit.AsyncRabbitTemplate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.CompletableFuture;
+
+@Service
+public class CommandForwarder {
+    public static final String USERS_ROUTING_KEY = "users";
+    private final ObjectProvider<AsyncRabbitTemplate> asyncTemplate;
+    private final AmqpTemplate template;
+    private final GameOwnership ownership;
+    private final ObjectMapper mapper;
+    private final String nodesTopic;
+    Logger logger = LoggerFactory.getLogger(CommandForwarder.class);
+
+    public CommandForwarder(
+            ObjectProvider<AsyncRabbitTemplate> asyncTemplate,
+            AmqpTemplate template,
+            GameOwnership ownership,
+            ObjectMapper mapper,
+            @Value("${amqp.exchange.nodes}") String nodesTopic
+    ) {
+        this.asyncTemplate = asyncTemplate;
+        this.template = template;
+        this.ownership = ownership;
+        this.mapper = mapper;
+        this.nodesTopic = nodesTopic;
+    }
+
+    public CompletableFuture<Boolean> forward(CommandType type, Long gameId, String username, Object payload) {
+        return forward(ForwardedCommand.of(type, gameId, username, mapper.valueToTree(payload)));
+    }
+
+    public CompletableFuture<Boolean> forward(ForwardedCommand command) {
+        var owner = ownership.ownerOf(command.getGameId());
+        logger.debug("Forwarding {} for game {} to node {}", command.getType(), command.getGameId(), owner);
+        return asyncTemplate.getObject().convertSendAndReceiveAsType(
+                nodesTopic,
+                routingKey(owner),
+                command,
+                new ParameterizedTypeReference<Boolean>() {}
+        );
+    }
+
+    public void sendToUser(String username, String destination, Object payload) {
+        var message = new UserMessage();
+        message.setUsername(username);
+        message.setDestination(destination);
+        message.setPayload(mapper.valueToTree(payload));
+        template.convertAndSend(nodesTopic, USERS_ROUTING_KEY, message);
+    }
+
+    public <T> T read(ForwardedCommand command, Class<T> type) {
+        return mapper.convertValue(command.getPayload(), type);
+    }
+
+    public static String routingKey(String nodeId) {
+        return "node." + nodeId;
+    }
+}
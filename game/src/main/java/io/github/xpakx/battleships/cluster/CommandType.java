@@ -0,0 +1,11 @@
+package io.github.xpakx.battleships.cluster;
+
+public enum CommandType {
+    Move,
+    Placement,
+    Load,
+    State,
+    EngineMove,
+    EngineAIMove,
+    EnginePlacement
+}
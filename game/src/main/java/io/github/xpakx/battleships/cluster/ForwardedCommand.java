@@ -0,0 +1,24 @@
+package io.github.xpakx.battleships.cluster;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class ForwardedCommand {
+    private CommandType type;
+    private Long gameId;
+    private String username;
+    private JsonNode payload;
+    private int hops;
+
+    public static ForwardedCommand of(CommandType type, Long gameId, String username, JsonNode payload) {
+        var command = new ForwardedCommand();
+        command.setType(type);
+        command.setGameId(gameId);
+        command.setUsername(username);
+        command.setPayload(payload);
+        return command;
+    }
+}
@@ -0,0 +1,63 @@
+package io.github.xpakx.battleships.cluster;
+
+import io.github.xpakx.battleships.game.GameService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.CompletableFuture;
+
+@Service
+@ConditionalOnProperty(name = "game.cluster.enabled", havingValue = "true")
+public class ForwardedCommandHandler {
+    private final GameService service;
+    private final GameOwnership ownership;
+    private final CommandForwarder forwarder;
+    private final SimpMessagingTemplate simpMessagingTemplate;
+    private final SimpUserRegistry userRegistry;
+    private final int maxHops;
+    Logger logger = LoggerFactory.getLogger(ForwardedCommandHandler.class);
+
+    public ForwardedCommandHandler(
+            GameService service,
+            GameOwnership ownership,
+            CommandForwarder forwarder,
+            SimpMessagingTemplate simpMessagingTemplate,
+            SimpUserRegistry userRegistry,
+            @Value("${game.cluster.max-hops}") int maxHops
+    ) {
+        this.service = service;
+        this.ownership = ownership;
+        this.forwarder = forwarder;
+        this.simpMessagingTemplate = simpMessagingTemplate;
+        this.userRegistry = userRegistry;
+        this.maxHops = maxHops;
+    }
+
+    @RabbitListener(queues = "#{@nodeQueue.name}")
+    CompletableFuture<Boolean> handleCommand(final ForwardedCommand command) {
+        if (!ownership.isOwner(command.getGameId())) {
+            if (command.getHops() < maxHops) {
+                command.setHops(command.getHops() + 1);
+                return forwarder.forward(command);
+            }
+            logger.warn("No stable owner for game {} after {} hops, rejecting {}", command.getGameId(), command.getHops(), command.getType());
+            return service.reject(command, "Game is being rebalanced, please retry!");
+        }
+        logger.debug("Executing forwarded {} for game {}", command.getType(), command.getGameId());
+        return service.execute(command);
+    }
+
+    @RabbitListener(queues = "#{@nodeUsersQueue.name}")
+    void handleUserMessage(final UserMessage message) {
+        if (userRegistry.getUser(message.getUsername()) == null) {
+            return;
+        }
+        simpMessagingTemplate.convertAndSendToUser(message.getUsername(), message.getDestination(), message.getPayload());
+    }
+}
@@ -0,0 +1,220 @@
+package io.github.xpakx.battleships.cluster;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+@Component
+public class GameOwnership {
+    public static final String LEASE_PREFIX = "cluster:lease:";
+    public static final String FENCE_KEY = "cluster:fence";
+    private static final int RENEW_BATCH = 500;
+    private static final RedisScript<String> acquireScript = RedisScript.of(new ClassPathResource("scripts/acquire-lease.lua"), String.class);
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> renewScript = RedisScript.of(new ClassPathResource("scripts/renew-leases.lua"), List.class);
+    private static final RedisScript<Long> releaseScript = RedisScript.of(new ClassPathResource("scripts/release-lease.lua"), Long.class);
+    private final NodeRegistry nodes;
+    private final StringRedisTemplate redisTemplate;
+    private final long leaseMs;
+    private final long idleMs;
+    private final Map<Long, Lease> leases = new ConcurrentHashMap<>();
+    private final List<Consumer<Long>> releaseListeners = new CopyOnWriteArrayList<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("cluster-leases").daemon().factory()
+    );
+    Logger logger = LoggerFactory.getLogger(GameOwnership.class);
+
+    public GameOwnership(
+            NodeRegistry nodes,
+            StringRedisTemplate redisTemplate,
+            @Value("${game.cluster.lease-ms}") long leaseMs,
+            @Value("${game.cluster.lease-idle-seconds}") long idleSeconds
+    ) {
+        this.nodes = nodes;
+        this.redisTemplate = redisTemplate;
+        this.leaseMs = leaseMs;
+        this.idleMs = TimeUnit.SECONDS.toMillis(idleSeconds);
+    }
+
+    @PostConstruct
+    void start() {
+        if (!isEnabled()) {
+            return;
+        }
+        nodes.onChange(this::rebalance);
+        var period = Math.max(leaseMs / 3, 1);
+        scheduler.scheduleWithFixedDelay(this::renew, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    public boolean isEnabled() {
+        return nodes.isEnabled();
+    }
+
+    public boolean isOwner(Long gameId) {
+        if (!isEnabled()) {
+            return true;
+        }
+        var now = System.currentTimeMillis();
+        var lease = leases.get(gameId);
+        if (lease != null && lease.getExpiresAt() > now) {
+            lease.setLastUsed(now);
+            return true;
+        }
+        if (!nodes.getNodeId().equals(preferredOwner(nodes.getLiveNodes(), gameId))) {
+            return false;
+        }
+        return acquire(gameId, now);
+    }
+
+    private boolean acquire(Long gameId, long now) {
+        var value = redisTemplate.execute(
+                acquireScript,
+                List.of(LEASE_PREFIX + gameId, FENCE_KEY),
+                nodes.getNodeId(),
+                String.valueOf(leaseMs)
+        );
+        if (value == null) {
+            return false;
+        }
+        var lease = Lease.parse(value);
+        if (!lease.getOwner().equals(nodes.getNodeId())) {
+            logger.debug("Game {} is still leased by node {}", gameId, lease.getOwner());
+            return false;
+        }
+        lease.setExpiresAt(now + leaseMs);
+        lease.setLastUsed(now);
+        leases.put(gameId, lease);
+        logger.debug("Acquired game {} with token {}", gameId, lease.getToken());
+        return true;
+    }
+
+    public long token(Long gameId) {
+        var lease = leases.get(gameId);
+        return lease != null ? lease.getToken() : 0;
+    }
+
+    public String ownerOf(Long gameId) {
+        var live = nodes.getLiveNodes();
+        var value = redisTemplate.opsForValue().get(LEASE_PREFIX + gameId);
+        if (value != null) {
+            var owner = Lease.parse(value).getOwner();
+            if (live.contains(owner)) {
+                return owner;
+            }
+        }
+        return preferredOwner(live, gameId);
+    }
+
+    public void onReleased(Consumer<Long> listener) {
+        releaseListeners.add(listener);
+    }
+
+    public void lost(Long gameId) {
+        if (leases.remove(gameId) != null) {
+            logger.warn("Lost lease for game {}", gameId);
+            releaseListeners.forEach((listener) -> listener.accept(gameId));
+        }
+    }
+
+    public void release(Long gameId) {
+        var lease = leases.remove(gameId);
+        if (lease == null) {
+            return;
+        }
+        try {
+            redisTemplate.execute(releaseScript, List.of(LEASE_PREFIX + gameId), lease.getValue());
+        } catch (Exception e) {
+            logger.warn("Cannot release lease for game {}: {}", gameId, e.getMessage());
+        }
+        releaseListeners.forEach((listener) -> listener.accept(gameId));
+    }
+
+    void rebalance(List<String> live) {
+        var moved = leases.keySet().stream()
+                .filter((gameId) -> !nodes.getNodeId().equals(preferredOwner(live, gameId)))
+                .toList();
+        if (!moved.isEmpty()) {
+            logger.info("Handing over {} games after membership change", moved.size());
+        }
+        moved.forEach(this::release);
+    }
+
+    @SuppressWarnings("unchecked")
+    void renew() {
+        try {
+            var now = System.currentTimeMillis();
+            leases.entrySet().stream()
+                    .filter((entry) -> now - entry.getValue().getLastUsed() > idleMs)
+                    .map(Map.Entry::getKey)
+                    .toList()
+                    .forEach(this::release);
+            var ids = List.copyOf(leases.keySet());
+            for (int from = 0; from < ids.size(); from += RENEW_BATCH) {
+                var batch = ids.subList(from, Math.min(from + RENEW_BATCH, ids.size()));
+                List<Long> renewed = redisTemplate.execute(
+                        renewScript,
+                        batch.stream().map((gameId) -> LEASE_PREFIX + gameId).toList(),
+                        nodes.getNodeId(),
+                        String.valueOf(leaseMs)
+                );
+                for (int i = 0; i < batch.size(); i++) {
+                    var gameId = batch.get(i);
+                    if (renewed != null && renewed.get(i) == 1L) {
+                        var lease = leases.get(gameId);
+                        if (lease != null) {
+                            lease.setExpiresAt(now + leaseMs);
+                        }
+                    } else {
+                        lost(gameId);
+                    }
+                }
+            }
+        } catch (Exception e) {
+            logger.warn("Lease renewal failed: {}", e.getMessage());
+        }
+    }
+
+    public int size() {
+        return leases.size();
+    }
+
+    @PreDestroy
+    void stop() {
+        scheduler.shutdownNow();
+        List.copyOf(leases.keySet()).forEach(this::release);
+    }
+
+    static String preferredOwner(List<String> nodes, Long gameId) {
+        String owner = null;
+        var best = 0L;
+        for (var node : nodes) {
+            var score = mix(node.hashCode() * 0x9E3779B97F4A7C15L ^ gameId);
+            if (owner == null || Long.compareUnsigned(score, best) > 0) {
+                owner = node;
+                best = score;
+            }
+        }
+        return owner;
+    }
+
+    private static long mix(long value) {
+        value = (value ^ (value >>> 33)) * 0xff51afd7ed558ccdL;
+        value = (value ^ (value >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return value ^ (value >>> 33);
+    }
+}
@@ -0,0 +1,25 @@
+package io.github.xpakx.battleships.cluster;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@RequiredArgsConstructor
+public class Lease {
+    private final String owner;
+    private final long token;
+    @Setter
+    private volatile long expiresAt;
+    @Setter
+    private volatile long lastUsed;
+
+    public static Lease parse(String value) {
+        var separator = value.lastIndexOf(':');
+        return new Lease(value.substring(0, separator), Long.parseLong(value.substring(separator + 1)));
+    }
+
+    public String getValue() {
+        return owner + ":" + token;
+    }
+}
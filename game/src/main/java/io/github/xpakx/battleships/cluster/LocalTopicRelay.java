@@ -0,0 +1,12 @@
+package io.github.xpakx.battleships.cluster;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "game.relay.type", havingValue = "Local", matchIfMissing = true)
+public class LocalTopicRelay implements TopicRelay {
+    @Override
+    public void interest(String destination, boolean interested) {
+    }
+}
@@ -0,0 +1,106 @@
+package io.github.xpakx.battleships.cluster;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+@Component
+public class NodeRegistry {
+    public static final String NODES_KEY = "cluster:nodes";
+    private final StringRedisTemplate redisTemplate;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final boolean enabled;
+    private final long heartbeatMs;
+    private final long nodeTimeoutMs;
+    private final List<Consumer<List<String>>> listeners = new CopyOnWriteArrayList<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("cluster-heartbeat").daemon().factory()
+    );
+    private volatile List<String> liveNodes = List.of(nodeId);
+    Logger logger = LoggerFactory.getLogger(NodeRegistry.class);
+
+    public NodeRegistry(
+            StringRedisTemplate redisTemplate,
+            @Value("${game.cluster.enabled}") boolean enabled,
+            @Value("${game.cluster.heartbeat-ms}") long heartbeatMs,
+            @Value("${game.cluster.node-timeout-ms}") long nodeTimeoutMs
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        this.heartbeatMs = heartbeatMs;
+        this.nodeTimeoutMs = nodeTimeoutMs;
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        heartbeat();
+        scheduler.scheduleWithFixedDelay(this::heartbeat, heartbeatMs, heartbeatMs, TimeUnit.MILLISECONDS);
+    }
+
+    void heartbeat() {
+        try {
+            var now = System.currentTimeMillis();
+            var nodes = redisTemplate.opsForZSet();
+            nodes.add(NODES_KEY, nodeId, now);
+            nodes.removeRangeByScore(NODES_KEY, 0, now - nodeTimeoutMs);
+            var members = nodes.range(NODES_KEY, 0, -1);
+            var current = new ArrayList<String>(members != null ? members : List.of());
+            if (!current.contains(nodeId)) {
+                current.add(nodeId);
+            }
+            current.sort(null);
+            if (!current.equals(liveNodes)) {
+                logger.info("Game nodes changed from {} to {}", liveNodes.size(), current.size());
+                liveNodes = List.copyOf(current);
+                listeners.forEach((listener) -> listener.accept(liveNodes));
+            }
+        } catch (Exception e) {
+            logger.warn("Node heartbeat failed: {}", e.getMessage());
+        }
+    }
+
+    public void onChange(Consumer<List<String>> listener) {
+        listeners.add(listener);
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public List<String> getLiveNodes() {
+        return liveNodes;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @PreDestroy
+    void stop() {
+        scheduler.shutdownNow();
+        if (!enabled) {
+            return;
+        }
+        try {
+            redisTemplate.opsForZSet().remove(NODES_KEY, nodeId);
+        } catch (Exception e) {
+            logger.warn("Cannot deregister node: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package io.github.xpakx.battleships.cluster;
+
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.AmqpTemplate;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "game.relay.type", havingValue = "Rabbit")
+public class RabbitTopicRelay extends AbstractTopicRelay {
+    private final AmqpTemplate template;
+    private final AmqpAdmin admin;
+    private final Queue relayQueue;
+    private final TopicExchange relayExchange;
+
+    public RabbitTopicRelay(
+            @Lazy @Qualifier("brokerChannel") MessageChannel brokerChannel,
+            NodeRegistry nodes,
+            AmqpTemplate template,
+            AmqpAdmin admin,
+            Queue relayQueue,
+            TopicExchange relayExchange,
+            ConnectionFactory connectionFactory
+    ) {
+        super(brokerChannel, nodes.getNodeId());
+        this.template = template;
+        this.admin = admin;
+        this.relayQueue = relayQueue;
+        this.relayExchange = relayExchange;
+        connectionFactory.addConnectionListener((connection) -> {
+            admin.declareQueue(relayQueue);
+            rebindAll();
+        });
+    }
+
+    @Override
+    protected void send(String destination, byte[] frame) {
+        template.send(relayExchange.getName(), routingKey(destination), new Message(frame, new MessageProperties()));
+    }
+
+    @Override
+    protected void bind(String destination) {
+        admin.declareBinding(binding(destination));
+    }
+
+    @Override
+    protected void unbind(String destination) {
+        admin.removeBinding(binding(destination));
+    }
+
+    @RabbitListener(queues = "#{@relayQueue.name}")
+    void handle(final Message message) {
+        deliver(message.getBody());
+    }
+
+    private Binding binding(String destination) {
+        return new Binding(
+                relayQueue.getName(),
+                Binding.DestinationType.QUEUE,
+                relayExchange.getName(),
+                routingKey(destination),
+                null
+        );
+    }
+
+    static String routingKey(String destination) {
+        return destination.substring(TOPIC_PREFIX.length()).replace('/', '.');
+    }
+}
@@ -0,0 +1,73 @@
+package io.github.xpakx.battleships.cluster;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+@Component
+@ConditionalOnProperty(name = "game.relay.type", havingValue = "Redis")
+public class RedisTopicRelay extends AbstractTopicRelay {
+    public static final String CHANNEL_PREFIX = "relay:";
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+    private final MessageListener listener = (message, pattern) -> deliver(message.getBody());
+
+    public RedisTopicRelay(
+            @Lazy @Qualifier("brokerChannel") MessageChannel brokerChannel,
+            NodeRegistry nodes,
+            StringRedisTemplate redisTemplate,
+            RedisConnectionFactory connectionFactory
+    ) {
+        super(brokerChannel, nodes.getNodeId());
+        this.redisTemplate = redisTemplate;
+        this.container.setConnectionFactory(connectionFactory);
+    }
+
+    @PostConstruct
+    void start() {
+        container.afterPropertiesSet();
+        container.start();
+    }
+
+    @Override
+    protected void send(String destination, byte[] frame) {
+        redisTemplate.execute((RedisCallback<Long>) (connection) -> connection.publish(channel(destination), frame));
+    }
+
+    @Override
+    protected void bind(String destination) {
+        container.addMessageListener(listener, new ChannelTopic(CHANNEL_PREFIX + destination));
+    }
+
+    @Override
+    protected void unbind(String destination) {
+        container.removeMessageListener(listener, new ChannelTopic(CHANNEL_PREFIX + destination));
+    }
+
+    private byte[] channel(String destination) {
+        return (CHANNEL_PREFIX + destination).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    @PreDestroy
+    public void shutdown() {
+        super.shutdown();
+        try {
+            container.destroy();
+        } catch (Exception e) {
+            logger.warn("Cannot stop relay listener: {}", e.getMessage());
+        }
+    }
+}
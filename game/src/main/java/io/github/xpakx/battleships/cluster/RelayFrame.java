@@ -0,0 +1,45 @@
+package io.github.xpakx.battleships.cluster;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+@Getter
+@RequiredArgsConstructor
+public class RelayFrame {
+    private final String origin;
+    private final String destination;
+    private final String contentType;
+    private final byte[] payload;
+
+    public byte[] toBytes() {
+        var bytes = new ByteArrayOutputStream(payload.length + 128);
+        try (var out = new DataOutputStream(bytes)) {
+            out.writeUTF(origin);
+            out.writeUTF(destination);
+            out.writeUTF(contentType != null ? contentType : "");
+            out.write(payload);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    public static RelayFrame fromBytes(byte[] bytes) {
+        try (var in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            var origin = in.readUTF();
+            var destination = in.readUTF();
+            var contentType = in.readUTF();
+            var payload = in.readAllBytes();
+            return new RelayFrame(origin, destination, contentType.isEmpty() ? null : contentType, payload);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package io.github.xpakx.battleships.cluster;
+
+import org.springframework.messaging.support.ChannelInterceptor;
+
+public interface TopicRelay extends ChannelInterceptor {
+    void interest(String destination, boolean interested);
+}
@@ -0,0 +1,13 @@
+package io.github.xpakx.battleships.cluster;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class UserMessage {
+    private String username;
+    private String destination;
+    private JsonNode payload;
+}
@@ -0,0 +1,10 @@
+package io.github.xpakx.battleships.game;
+
+public enum ClaimStatus {
+    NotFound,
+    NotStarted,
+    Finished,
+    NotYourTurn,
+    Blocked,
+    Claimed;
+}
@@ -1,53 +1,108 @@
 package io.github.xpakx.battleships.game;
 
-import io.github.xpakx.battleships.clients.MovePublisher;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.github.xpakx.battleships.game.dto.EngineAIMoveEvent;
 import io.github.xpakx.battleships.game.dto.EnginePlacementEvent;
 import io.github.xpakx.battleships.game.dto.EngineMoveEvent;
+import io.github.xpakx.battleships.settings.EnginePartitions;
 import lombok.RequiredArgsConstructor;
 import org.springframework.amqp.AmqpRejectAndDontRequeueException;
-import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.annotation.RabbitListenerConfigurer;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerEndpoint;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistrar;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
 @Service
 @RequiredArgsConstructor
-public class EngineEventHandler {
+public class EngineEventHandler implements RabbitListenerConfigurer {
     private final GameService service;
-    private final MovePublisher publisher;
-    private final GameRepository repository;
+    private final EnginePartitions partitions;
+    private final ObjectMapper mapper;
+
+    @Value("${amqp.queue.ai.moves}")
+    private String aiMovesQueue;
+    @Value("${amqp.queue.placement}")
+    private String placementQueue;
+    @Value("${amqp.queue.validation.moves}")
+    private String validationMovesQueue;
+    @Value("${game.engine.handler-timeout-ms}")
+    private long handlerTimeout;
+
+    @Override
+    public void configureRabbitListeners(RabbitListenerEndpointRegistrar registrar) {
+        for (var queue : partitions.getQueueNames(aiMovesQueue)) {
+            register(registrar, queue, EngineAIMoveEvent.class, EngineAIMoveEvent::setCorrelationId, this::handleAIMove);
+        }
+        for (var queue : partitions.getQueueNames(placementQueue)) {
+            register(registrar, queue, EnginePlacementEvent.class, EnginePlacementEvent::setCorrelationId, this::handleAIPlacement);
+        }
+        for (var queue : partitions.getQueueNames(validationMovesQueue)) {
+            register(registrar, queue, EngineMoveEvent.class, EngineMoveEvent::setCorrelationId, this::handleMove);
+        }
+    }
+
+    private <T> void register(
+            RabbitListenerEndpointRegistrar registrar,
+            String queue,
+            Class<T> type,
+            BiConsumer<T, String> correlation,
+            Consumer<T> handler
+    ) {
+        var endpoint = new SimpleRabbitListenerEndpoint();
+        endpoint.setId("engine." + queue);
+        endpoint.setQueueNames(queue);
+        endpoint.setMessageListener((message) -> {
+            try {
+                var event = mapper.readValue(message.getBody(), type);
+                var correlationId = message.getMessageProperties().getCorrelationId();
+                if (correlationId != null) {
+                    correlation.accept(event, correlationId);
+                }
+                handler.accept(event);
+            } catch (IOException e) {
+                throw new AmqpRejectAndDontRequeueException(e);
+            }
+        });
+        registrar.registerEndpoint(endpoint);
+    }
 
-    @RabbitListener(queues = "${amqp.queue.ai.moves}")
     void handleAIMove(final EngineAIMoveEvent event) {
         try {
-            var game = repository.findById(event.getGameId()).orElseThrow();
-            publisher.sendHit(
-                    event.getRow(),
-                    event.getColumn(),
-                    game.getCurrentState(),
-                    game.getCurrentTargets(),
-                    game.getId(),
-                    game.getRuleset()
-            );
+            await(service.doMakeAIMove(event));
         } catch (final Exception e) {
             throw new AmqpRejectAndDontRequeueException(e);
         }
     }
 
-    @RabbitListener(queues = "${amqp.queue.placement}")
     void handleAIPlacement(final EnginePlacementEvent event) {
         try {
-            service.doPlaceShips(event);
+            await(service.doPlaceShips(event));
         } catch (final Exception e) {
             throw new AmqpRejectAndDontRequeueException(e);
         }
     }
 
-    @RabbitListener(queues = "${amqp.queue.validation.moves}")
     void handleMove(final EngineMoveEvent event) {
         try {
-            service.doMakeMove(event);
+            await(service.doMakeMove(event));
         } catch (final Exception e) {
             throw new AmqpRejectAndDontRequeueException(e);
         }
     }
+
+    private void await(CompletableFuture<Void> result) throws Exception {
+        try {
+            result.get(handlerTimeout, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw e;
+        }
+    }
 }
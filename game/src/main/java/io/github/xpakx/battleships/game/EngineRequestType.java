@@ -0,0 +1,8 @@
+package io.github.xpakx.battleships.game;
+
+public enum EngineRequestType {
+    Move,
+    AIMove,
+    AIPlacement,
+    Placement
+}
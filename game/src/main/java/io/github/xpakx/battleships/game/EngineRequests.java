@@ -0,0 +1,146 @@
+package io.github.xpakx.battleships.game;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+@Component
+public class EngineRequests {
+    private final Map<String, PendingRequest> inFlight = new ConcurrentHashMap<>();
+    private final DelayQueue<PendingRequest> deadlines = new DelayQueue<>();
+    private final Cache<String, Boolean> finished;
+    private final Map<EngineRequestType, Counter> timeoutCounters = new EnumMap<>(EngineRequestType.class);
+    private final Counter discardedCounter;
+    private final AtomicLong counter = new AtomicLong();
+    private final String nodeId = UUID.randomUUID().toString().substring(0, 8);
+    private final long timeout;
+    private final boolean acceptUncorrelated;
+    private final Thread reaper;
+    private volatile Consumer<PendingRequest> timeoutHandler = (request) -> {};
+    Logger logger = LoggerFactory.getLogger(EngineRequests.class);
+
+    public EngineRequests(
+            MeterRegistry registry,
+            @Value("${game.engine.timeout-ms}") long timeout,
+            @Value("${game.engine.finished-cache-size}") long finishedCacheSize,
+            @Value("${game.engine.accept-uncorrelated}") boolean acceptUncorrelated
+    ) {
+        this.timeout = timeout;
+        this.acceptUncorrelated = acceptUncorrelated;
+        this.finished = Caffeine.newBuilder()
+                .maximumSize(finishedCacheSize)
+                .expireAfterWrite(Duration.ofMillis(timeout).multipliedBy(10))
+                .build();
+        for (var type : EngineRequestType.values()) {
+            timeoutCounters.put(
+                    type,
+                    Counter.builder("engine.requests.timeouts")
+                            .description("Engine requests without response before deadline")
+                            .tag("type", type.name())
+                            .register(registry)
+            );
+        }
+        this.discardedCounter = Counter.builder("engine.requests.discarded")
+                .description("Late or duplicate engine responses")
+                .register(registry);
+        Gauge.builder("engine.requests.inflight", inFlight, Map::size)
+                .description("Engine requests waiting for response")
+                .register(registry);
+        this.reaper = Thread.ofVirtual().name("engine-requests-reaper").start(this::reap);
+    }
+
+    public void onTimeout(Consumer<PendingRequest> handler) {
+        this.timeoutHandler = handler;
+    }
+
+    public String registerMove(Long gameId, String username, int row, int column) {
+        return register(gameId, EngineRequestType.Move, username, row, column, 0);
+    }
+
+    public String register(Long gameId, EngineRequestType type, String username, int attempt) {
+        return register(gameId, type, username, null, null, attempt);
+    }
+
+    private String register(Long gameId, EngineRequestType type, String username, Integer row, Integer column, int attempt) {
+        var id = nodeId + "-" + counter.incrementAndGet();
+        var request = new PendingRequest(
+                id,
+                gameId,
+                type,
+                username,
+                row,
+                column,
+                attempt,
+                System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout)
+        );
+        inFlight.put(id, request);
+        deadlines.add(request);
+        return id;
+    }
+
+    public boolean complete(String id) {
+        if (id == null) {
+            if (!acceptUncorrelated) {
+                discardedCounter.increment();
+                logger.debug("Discarding engine response without correlation id");
+            }
+            return acceptUncorrelated;
+        }
+        if (inFlight.remove(id) != null) {
+            finished.put(id, true);
+            return true;
+        }
+        discardedCounter.increment();
+        if (finished.getIfPresent(id) != null) {
+            logger.debug("Discarding late engine response {}", id);
+        } else {
+            logger.debug("Discarding engine response {} for unknown request", id);
+        }
+        return false;
+    }
+
+    public int size() {
+        return inFlight.size();
+    }
+
+    private void reap() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                var request = deadlines.take();
+                if (!inFlight.remove(request.getId(), request)) {
+                    continue;
+                }
+                finished.put(request.getId(), true);
+                timeoutCounters.get(request.getType()).increment();
+                logger.debug("Engine request {} for game {} timed out", request.getId(), request.getGameId());
+                timeoutHandler.accept(request);
+            } catch (InterruptedException e) {
+                return;
+            } catch (Exception e) {
+                logger.warn("Failed to handle engine request timeout: {}", e.getMessage());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        reaper.interrupt();
+    }
+}
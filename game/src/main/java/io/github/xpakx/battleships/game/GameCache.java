@@ -0,0 +1,187 @@
+package io.github.xpakx.battleships.game;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.xpakx.battleships.cluster.GameOwnership;
+import io.github.xpakx.battleships.game.error.LeaseLostException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Service
+public class GameCache implements MessageListener {
+    private final GameRepository repository;
+    private final StringRedisTemplate redisTemplate;
+    private final GameOwnership ownership;
+    private final Cache<Long, GameState> cache;
+    private final String channel;
+    private final String nodeId = UUID.randomUUID().toString();
+    Logger logger = LoggerFactory.getLogger(GameCache.class);
+
+    public GameCache(
+            GameRepository repository,
+            StringRedisTemplate redisTemplate,
+            GameOwnership ownership,
+            @Value("${game.cache.size}") long size,
+            @Value("${game.cache.idle-seconds}") long idleSeconds,
+            @Value("${game.cache.channel}") String channel
+    ) {
+        this.repository = repository;
+        this.redisTemplate = redisTemplate;
+        this.ownership = ownership;
+        this.channel = channel;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(size)
+                .expireAfterAccess(Duration.ofSeconds(idleSeconds))
+                .build();
+    }
+
+    public Optional<GameState> findById(Long id) {
+        var game = cache.getIfPresent(id);
+        if (game != null) {
+            return Optional.of(game);
+        }
+        var gameOpt = repository.findById(id);
+        gameOpt.ifPresent((g) -> cache.put(id, g));
+        return gameOpt;
+    }
+
+    public GameState save(GameState game) {
+        var partial = game.getDirtyFields() != GameStateCodec.ALL;
+        var results = write(game);
+        if (partial && !results.isEmpty() && Boolean.FALSE.equals(results.get(0))) {
+            logger.debug("Game {} expired in Redis before save, writing all fields", game.getId());
+            game.setDirtyFields(GameStateCodec.ALL);
+            results = write(game);
+        }
+        game.setDirtyFields(0);
+        if (ownership.isEnabled() && results.size() > 1 && Long.valueOf(0).equals(results.get(1))) {
+            cache.invalidate(game.getId());
+            ownership.lost(game.getId());
+            throw new LeaseLostException("Game " + game.getId() + " is owned by another node");
+        }
+        cache.put(game.getId(), game);
+        return game;
+    }
+
+    private List<Object> write(GameState game) {
+        return redisTemplate.executePipelined((RedisCallback<Object>) (connection) -> {
+            repository.touch(connection, game.getId());
+            if (ownership.isEnabled()) {
+                repository.writeFenced(connection, game, ownership.token(game.getId()));
+            } else {
+                repository.write(connection, game);
+            }
+            publishInvalidation(connection, game.getId());
+            return null;
+        });
+    }
+
+    public List<GameState> saveAbsent(List<GameState> games) {
+        if (games.isEmpty()) {
+            return List.of();
+        }
+        var tokens = games.stream()
+                .map((game) -> ownership.token(game.getId()))
+                .toList();
+        var results = redisTemplate.executePipelined((RedisCallback<Object>) (connection) -> {
+            for (int i = 0; i < games.size(); i++) {
+                repository.writeIfAbsent(connection, games.get(i), tokens.get(i));
+            }
+            return null;
+        });
+        var written = new ArrayList<GameState>();
+        for (int i = 0; i < games.size(); i++) {
+            if (results.get(i) instanceof Long result && result == 1L) {
+                var game = games.get(i);
+                game.setDirtyFields(0);
+                written.add(game);
+                if (!ownership.isEnabled() || tokens.get(i) > 0) {
+                    cache.put(game.getId(), game);
+                }
+            }
+        }
+        if (!written.isEmpty()) {
+            redisTemplate.executePipelined((RedisCallback<Object>) (connection) -> {
+                written.forEach((game) -> publishInvalidation(connection, game.getId()));
+                return null;
+            });
+        }
+        return written;
+    }
+
+    public void deleteById(Long id) {
+        redisTemplate.executePipelined((RedisCallback<Object>) (connection) -> {
+            repository.delete(connection, id);
+            publishInvalidation(connection, id);
+            return null;
+        });
+        cache.invalidate(id);
+    }
+
+    public void evict(Long id) {
+        cache.invalidate(id);
+    }
+
+    public void evictAll() {
+        cache.invalidateAll();
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    private void publishInvalidation(RedisConnection connection, Long id) {
+        connection.publish(
+                channel.getBytes(StandardCharsets.UTF_8),
+                (nodeId + ":" + id).getBytes(StandardCharsets.UTF_8)
+        );
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        var body = new String(message.getBody(), StandardCharsets.UTF_8);
+        var source = new String(message.getChannel(), StandardCharsets.UTF_8);
+        if (source.equals(channel)) {
+            onInvalidation(body);
+        } else {
+            onKeyEvent(body);
+        }
+    }
+
+    private void onInvalidation(String body) {
+        var separator = body.lastIndexOf(':');
+        if (separator < 0 || body.substring(0, separator).equals(nodeId)) {
+            return;
+        }
+        parseId(body.substring(separator + 1)).ifPresent(this::evict);
+    }
+
+    private void onKeyEvent(String key) {
+        if (!key.startsWith(GameRepository.KEY_PREFIX)) {
+            return;
+        }
+        parseId(key.substring(GameRepository.KEY_PREFIX.length())).ifPresent(this::evict);
+    }
+
+    private Optional<Long> parseId(String id) {
+        try {
+            return Optional.of(Long.parseLong(id));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+}
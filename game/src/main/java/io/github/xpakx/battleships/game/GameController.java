@@ -9,6 +9,7 @@ import org.springframework.messaging.simp.annotation.SubscribeMapping;
 import org.springframework.stereotype.Controller;
 
 import java.security.Principal;
+import java.util.concurrent.CompletableFuture;
 
 @Controller
 @RequiredArgsConstructor
@@ -16,17 +17,17 @@ public class GameController {
     private final GameService service;
 
     @MessageMapping("/move/{id}")
-    public MoveMessage move(@DestinationVariable Long id, MoveRequest move, Principal principal) {
+    public CompletableFuture<Void> move(@DestinationVariable Long id, MoveRequest move, Principal principal) {
         return service.move(id, move, principal.getName());
     }
 
     @MessageMapping("/placement/{id}")
-    public PlacementMessage placement(@DestinationVariable Long id, PlacementRequest request, Principal principal) {
+    public CompletableFuture<Void> placement(@DestinationVariable Long id, PlacementRequest request, Principal principal) {
         return service.place(id, request, principal.getName());
     }
 
     @SubscribeMapping("/board/{id}")
-    public GameMessage subscribeBoard(@DestinationVariable Long id) {
+    public CompletableFuture<SerializedMessage> subscribeBoard(@DestinationVariable Long id) {
         return service.subscribe(id);
     }
 
@@ -0,0 +1,61 @@
+package io.github.xpakx.battleships.game;
+
+import io.github.xpakx.battleships.clients.GamePublisher;
+import io.github.xpakx.battleships.game.error.GameLoadingException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class GameLoader {
+    private final GamePublisher gamePublisher;
+    private final long timeout;
+    private final Map<Long, CompletableFuture<GameState>> loading = new ConcurrentHashMap<>();
+    Logger logger = LoggerFactory.getLogger(GameLoader.class);
+
+    public GameLoader(GamePublisher gamePublisher, @Value("${game.loading.timeout-ms}") long timeout) {
+        this.gamePublisher = gamePublisher;
+        this.timeout = timeout;
+    }
+
+    public CompletableFuture<GameState> load(Long gameId) {
+        var created = new boolean[1];
+        var future = loading.computeIfAbsent(gameId, (id) -> {
+            created[0] = true;
+            var result = new CompletableFuture<GameState>();
+            result.orTimeout(timeout, TimeUnit.MILLISECONDS)
+                    .whenComplete((game, e) -> loading.remove(id, result));
+            return result;
+        });
+        if (created[0]) {
+            gamePublisher.getGame(gameId);
+        } else {
+            logger.debug("Game {} is already being loaded", gameId);
+        }
+        return future;
+    }
+
+    public void loaded(GameState game) {
+        var future = loading.remove(game.getId());
+        if (future != null) {
+            future.complete(game);
+        }
+    }
+
+    public void failed(Long gameId, String message) {
+        var future = loading.remove(gameId);
+        if (future != null) {
+            future.completeExceptionally(new GameLoadingException(message));
+        }
+    }
+
+    public boolean isLoading(Long gameId) {
+        return loading.containsKey(gameId);
+    }
+}
@@ -0,0 +1,99 @@
+package io.github.xpakx.battleships.game;
+
+import io.micrometer.context.ContextSnapshotFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+@Component
+public class GameMailbox {
+    private final Map<Long, ArrayDeque<Runnable>> mailboxes = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Timer waitTimer;
+    private final ContextSnapshotFactory snapshotFactory = ContextSnapshotFactory.builder().build();
+    Logger logger = LoggerFactory.getLogger(GameMailbox.class);
+
+    public GameMailbox(MeterRegistry registry) {
+        this.waitTimer = Timer.builder("game.mailbox.wait")
+                .description("Time a command waits for earlier commands of the same game")
+                .publishPercentiles(0.5, 0.99, 0.999)
+                .register(registry);
+    }
+
+    public <T> CompletableFuture<T> submit(Long gameId, Supplier<T> command) {
+        var result = new CompletableFuture<T>();
+        var submitted = System.nanoTime();
+        var snapshot = snapshotFactory.captureAll();
+        execute(gameId, () -> {
+            waitTimer.record(System.nanoTime() - submitted, TimeUnit.NANOSECONDS);
+            try (var scope = snapshot.setThreadLocals()) {
+                result.complete(command.get());
+            } catch (Throwable e) {
+                logger.error("Command for game {} failed", gameId, e);
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
+    public CompletableFuture<Void> submit(Long gameId, Runnable command) {
+        return submit(gameId, () -> {
+            command.run();
+            return null;
+        });
+    }
+
+    private void execute(Long gameId, Runnable task) {
+        var idle = new boolean[1];
+        mailboxes.compute(gameId, (id, queue) -> {
+            if (queue == null) {
+                queue = new ArrayDeque<>();
+                idle[0] = true;
+            }
+            queue.add(task);
+            return queue;
+        });
+        if (idle[0]) {
+            executor.execute(() -> drain(gameId, task));
+        }
+    }
+
+    private void drain(Long gameId, Runnable first) {
+        var task = first;
+        while (task != null) {
+            try {
+                task.run();
+            } catch (Throwable e) {
+                logger.error("Mailbox task for game {} failed", gameId, e);
+            }
+            var next = new Runnable[1];
+            mailboxes.computeIfPresent(gameId, (id, queue) -> {
+                queue.poll();
+                next[0] = queue.peek();
+                return queue.isEmpty() ? null : queue;
+            });
+            task = next[0];
+        }
+    }
+
+    public int size() {
+        return mailboxes.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.close();
+    }
+}
@@ -1,8 +1,177 @@
 package io.github.xpakx.battleships.game;
 
-import org.springframework.data.repository.CrudRepository;
+import io.github.xpakx.battleships.game.board.BoardCodec;
+import io.github.xpakx.battleships.game.board.ShipTable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Repository;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
 @Repository
-public interface GameRepository extends CrudRepository<GameState, Long> {
+public class GameRepository {
+    public static final String KEY_PREFIX = "game:";
+    public static final String CLAIM_PREFIX = "claim:";
+    private static final int SCAN_COUNT = 1000;
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> claimScript = RedisScript.of(new ClassPathResource("scripts/claim-move.lua"), List.class);
+    private static final RedisScript<Long> fencedWriteScript = RedisScript.of(new ClassPathResource("scripts/fenced-write.lua"), Long.class);
+    private static final RedisScript<Long> insertAbsentScript = RedisScript.of(new ClassPathResource("scripts/insert-absent.lua"), Long.class);
+    private final StringRedisTemplate redisTemplate;
+    private final long ttlSeconds;
+    private final byte[] fencedWrite;
+    private final byte[] insertAbsent;
+
+    public GameRepository(StringRedisTemplate redisTemplate, @Value("${game.cache.ttl-seconds}") long ttlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.ttlSeconds = ttlSeconds;
+        this.fencedWrite = fencedWriteScript.getScriptAsString().getBytes(StandardCharsets.UTF_8);
+        this.insertAbsent = insertAbsentScript.getScriptAsString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @SuppressWarnings("unchecked")
+    public Optional<GameState> findById(Long id) {
+        var results = redisTemplate.executePipelined((RedisCallback<Object>) (connection) -> {
+            connection.hashCommands().hGetAll(key(id));
+            connection.keyCommands().exists(claimKey(id));
+            touch(connection, id);
+            return null;
+        }, RedisSerializer.byteArray());
+        var fields = results.isEmpty() ? null : (Map<byte[], byte[]>) results.get(0);
+        var game = GameStateCodec.decode(id, fields);
+        if (game != null) {
+            game.setBlocked(Boolean.TRUE.equals(results.get(1)));
+        }
+        return Optional.ofNullable(game);
+    }
+
+    public GameState save(GameState game) {
+        redisTemplate.execute((RedisCallback<Object>) (connection) -> {
+            write(connection, game);
+            return null;
+        });
+        game.setDirtyFields(0);
+        return game;
+    }
+
+    public void deleteById(Long id) {
+        redisTemplate.execute((RedisCallback<Long>) (connection) -> connection.keyCommands().del(key(id), claimKey(id)));
+    }
+
+    public void deleteAll() {
+        redisTemplate.execute((RedisCallback<Object>) (connection) -> {
+            var keys = scan(connection);
+            if (!keys.isEmpty()) {
+                connection.keyCommands().del(keys.toArray(new byte[0][]));
+            }
+            return null;
+        });
+    }
+
+    public long count() {
+        var count = redisTemplate.execute((RedisCallback<Integer>) (connection) -> scan(connection).size());
+        return count != null ? count : 0;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public MoveClaim claimMove(Long id, boolean firstUser, long claimMs) {
+        List<Object> result = redisTemplate.execute(
+                claimScript,
+                RedisSerializer.string(),
+                (RedisSerializer) RedisSerializer.byteArray(),
+                List.of(KEY_PREFIX + id, CLAIM_PREFIX + id),
+                firstUser ? "1" : "0",
+                String.valueOf(claimMs),
+                String.valueOf(ttlSeconds)
+        );
+        var status = ClaimStatus.values()[((Number) result.get(0)).intValue()];
+        if (status != ClaimStatus.Claimed) {
+            return MoveClaim.rejected(status);
+        }
+        return MoveClaim.claimed(
+                GameStateCodec.readVersion((byte[]) result.get(1)),
+                BoardCodec.toBoard(orNull((byte[]) result.get(2))),
+                Optional.ofNullable(ShipTable.fromBytes(orNull((byte[]) result.get(3))))
+        );
+    }
+
+    private byte[] orNull(byte[] value) {
+        return value != null && value.length > 0 ? value : null;
+    }
+
+    public void write(RedisConnection connection, GameState game) {
+        var key = key(game.getId());
+        connection.hashCommands().hMSet(key, GameStateCodec.encode(game));
+        if (!game.isBlocked()) {
+            connection.keyCommands().del(claimKey(game.getId()));
+        }
+        connection.keyCommands().expire(key, ttlSeconds);
+    }
+
+    public void writeFenced(RedisConnection connection, GameState game, long token) {
+        var fields = GameStateCodec.encode(game);
+        var args = new byte[5 + fields.size() * 2][];
+        args[0] = key(game.getId());
+        args[1] = claimKey(game.getId());
+        args[2] = String.valueOf(token).getBytes(StandardCharsets.UTF_8);
+        args[3] = String.valueOf(ttlSeconds).getBytes(StandardCharsets.UTF_8);
+        args[4] = (game.isBlocked() ? "0" : "1").getBytes(StandardCharsets.UTF_8);
+        var i = 5;
+        for (var field : fields.entrySet()) {
+            args[i++] = field.getKey();
+            args[i++] = field.getValue();
+        }
+        connection.scriptingCommands().eval(fencedWrite, ReturnType.INTEGER, 2, args);
+    }
+
+    public void writeIfAbsent(RedisConnection connection, GameState game, long token) {
+        var fields = GameStateCodec.encode(game);
+        var args = new byte[3 + fields.size() * 2][];
+        args[0] = key(game.getId());
+        args[1] = String.valueOf(ttlSeconds).getBytes(StandardCharsets.UTF_8);
+        args[2] = String.valueOf(token).getBytes(StandardCharsets.UTF_8);
+        var i = 3;
+        for (var field : fields.entrySet()) {
+            args[i++] = field.getKey();
+            args[i++] = field.getValue();
+        }
+        connection.scriptingCommands().eval(insertAbsent, ReturnType.INTEGER, 1, args);
+    }
+
+    public void touch(RedisConnection connection, Long id) {
+        connection.keyCommands().expire(key(id), ttlSeconds);
+    }
+
+    public void delete(RedisConnection connection, Long id) {
+        connection.keyCommands().del(key(id), claimKey(id));
+    }
+
+    public byte[] key(Long id) {
+        return (KEY_PREFIX + id).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private byte[] claimKey(Long id) {
+        return (CLAIM_PREFIX + id).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private ArrayList<byte[]> scan(RedisConnection connection) {
+        var keys = new ArrayList<byte[]>();
+        var options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(SCAN_COUNT).build();
+        try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+            cursor.forEachRemaining(keys::add);
+        }
+        return keys;
+    }
 }
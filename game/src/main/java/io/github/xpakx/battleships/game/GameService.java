@@ -1,102 +1,276 @@
 package io.github.xpakx.battleships.game;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import io.github.xpakx.battleships.clients.GamePublisher;
 import io.github.xpakx.battleships.clients.MovePublisher;
 import io.github.xpakx.battleships.clients.StatePublisher;
 import io.github.xpakx.battleships.clients.event.Phase;
+import io.github.xpakx.battleships.cluster.CommandForwarder;
+import io.github.xpakx.battleships.cluster.CommandType;
+import io.github.xpakx.battleships.cluster.ForwardedCommand;
+import io.github.xpakx.battleships.cluster.GameOwnership;
+import io.github.xpakx.battleships.game.board.Board;
+import io.github.xpakx.battleships.game.board.ShipTable;
 import io.github.xpakx.battleships.game.dto.*;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
 import org.springframework.stereotype.Service;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @RequiredArgsConstructor
 public class GameService {
     private final SimpMessagingTemplate simpMessagingTemplate;
-    private final GameRepository repository;
+    private final GameCache cache;
     private final MovePublisher movePublisher;
-    private final GamePublisher gamePublisher;
     private final StatePublisher statePublisher;
+    private final ShotValidator shotValidator;
+    private final MoveMetrics moveMetrics;
+    private final GameMailbox mailbox;
+    private final SnapshotCache snapshots;
+    private final GameLoader loader;
+    private final EngineRequests requests;
+    private final GameRepository repository;
+    private final GameOwnership ownership;
+    private final CommandForwarder forwarder;
+    private final SimpUserRegistry userRegistry;
     Logger logger = LoggerFactory.getLogger(GameService.class);
 
-    public MoveMessage move(Long gameId, MoveRequest move, String username) {
-        var gameOpt = getGameById(gameId);
+    @Value("${game.validation.mode}")
+    private ValidationMode validationMode;
+    @Value("${game.engine.max-retries}")
+    private int maxRetries;
+    @Value("${game.move.claim-ms}")
+    private long claimMs;
+
+    @PostConstruct
+    void init() {
+        requests.onTimeout((request) -> {
+            moveMetrics.abandoned(request.getId());
+            mailbox.submit(request.getGameId(), () -> handleTimeout(request));
+        });
+        ownership.onReleased((gameId) -> {
+            cache.evict(gameId);
+            snapshots.evict(gameId);
+        });
+    }
+
+    public CompletableFuture<Void> move(Long gameId, MoveRequest move, String username) {
+        if (!ownership.isOwner(gameId)) {
+            return forwarder.forward(CommandType.Move, gameId, username, move)
+                    .handle((result, e) -> {
+                        if (e != null) {
+                            logger.warn("Forwarding move for game {} failed: {}", gameId, e.getMessage());
+                            var msg = MoveMessage.rejected(move.getX(), move.getY(), username, "Cannot move now!");
+                            sendToUser(username, "/queue/game/" + gameId, msg);
+                        }
+                        return null;
+                    });
+        }
+        return moveLocally(gameId, move, username);
+    }
+
+    private CompletableFuture<Void> moveLocally(Long gameId, MoveRequest move, String username) {
+        return whenLoaded(gameId)
+                .thenCompose((loaded) -> mailbox.submit(gameId, () -> doMove(gameId, move, username)));
+    }
+
+    public CompletableFuture<Boolean> execute(ForwardedCommand command) {
+        var gameId = command.getGameId();
+        var username = command.getUsername();
+        CompletableFuture<?> result = switch (command.getType()) {
+            case Move -> moveLocally(gameId, forwarder.read(command, MoveRequest.class), username);
+            case Placement -> placeLocally(gameId, forwarder.read(command, PlacementRequest.class), username);
+            case Load -> whenLoaded(gameId);
+            case State -> mailbox.submit(gameId, () -> doLoadGame(forwarder.read(command, StateEvent.class)));
+            case EngineMove -> mailbox.submit(gameId, () -> makeMove(forwarder.read(command, EngineMoveEvent.class)));
+            case EngineAIMove -> mailbox.submit(gameId, () -> makeAIMove(forwarder.read(command, EngineAIMoveEvent.class)));
+            case EnginePlacement -> mailbox.submit(gameId, () -> placeShips(forwarder.read(command, EnginePlacementEvent.class)));
+        };
+        return result.thenApply((value) -> !(value instanceof Boolean loaded) || loaded);
+    }
+
+    public CompletableFuture<Boolean> reject(ForwardedCommand command, String reason) {
+        var gameId = command.getGameId();
+        var username = command.getUsername();
+        switch (command.getType()) {
+            case Move -> {
+                var move = forwarder.read(command, MoveRequest.class);
+                sendToUser(username, "/queue/game/" + gameId, MoveMessage.rejected(move.getX(), move.getY(), username, reason));
+            }
+            case Placement -> sendToUser(username, "/queue/placement/" + gameId, PlacementMessage.rejected(username));
+            default -> { }
+        }
+        return CompletableFuture.completedFuture(false);
+    }
+
+    private CompletableFuture<Boolean> ensureLoaded(Long gameId) {
+        if (ownership.isOwner(gameId)) {
+            return whenLoaded(gameId);
+        }
+        return forwarder.forward(CommandType.Load, gameId, null, null)
+                .exceptionally((e) -> {
+                    logger.debug("Game {} not loaded by owner: {}", gameId, e.getMessage());
+                    return false;
+                });
+    }
+
+    private CompletableFuture<Boolean> whenLoaded(Long gameId) {
+        if (getGameById(gameId).isPresent()) {
+            return CompletableFuture.completedFuture(true);
+        }
+        return loader.load(gameId)
+                .handle((game, e) -> {
+                    if (e != null) {
+                        logger.debug("Game {} not loaded: {}", gameId, e.getMessage());
+                    }
+                    return e == null;
+                });
+    }
+
+    private void doMove(Long gameId, MoveRequest move, String username) {
+        var gameOpt = findGame(gameId);
         if (gameOpt.isEmpty()) {
-            gamePublisher.getGame(gameId);
-            var msg = MoveMessage.rejected(move.getX(), move.getY(), username, "Game not loaded, please wait!");
-            simpMessagingTemplate.convertAndSend("/topic/game/" + gameId, msg);
-            return msg;
+            var msg = MoveMessage.rejected(move.getX(), move.getY(), username, "Game could not be loaded!");
+            sendToUser(username, "/queue/game/" + gameId, msg);
+            return;
         }
         var game = gameOpt.get();
 
         if (!game.isUserInGame(username)) {
             var msg = MoveMessage.rejected(move.getX(), move.getY(), username, "Cannot move!");
-            simpMessagingTemplate.convertAndSend("/topic/game/" + gameId, msg);
-            return msg;
+            sendToUser(username, "/queue/game/" + gameId, msg);
+            return;
         }
-        if (!game.isGameStarted()) {
-            var msg = MoveMessage.rejected(move.getX(), move.getY(), username, "Game not started, both players must place their ships!");
-            simpMessagingTemplate.convertAndSend("/topic/game/" + gameId, msg);
-            return msg;
+        var claim = repository.claimMove(gameId, username.equals(game.getUsername1()), claimMs);
+        if (!claim.isClaimed()) {
+            var msg = MoveMessage.rejected(move.getX(), move.getY(), username, claimError(claim.getStatus()));
+            sendToUser(username, "/queue/game/" + gameId, msg);
+            return;
         }
-        if (game.isFinished()) {
-            var msg =  MoveMessage.rejected(move.getX(), move.getY(), username, "Game is finished!");
-            simpMessagingTemplate.convertAndSend("/topic/game/" + gameId, msg);
-            return msg;
+        if (claim.getVersion() != game.getVersion()) {
+            cache.evict(gameId);
+            game = findGame(gameId).orElseThrow();
         }
+        game.setBlocked(true);
+        shoot(game, move.getX(), move.getY(), claim.getBoard(), claim.getTargets());
+    }
 
-        if (game.isBlocked() || !canPlayerMove(game, move, username)) {
-            var msg = MoveMessage.rejected(move.getX(), move.getY(), username, "Cannot move now!");
-            simpMessagingTemplate.convertAndSend("/topic/game/" + gameId, msg);
-            return msg;
+    private String claimError(ClaimStatus status) {
+        return switch (status) {
+            case NotFound -> "Game could not be loaded!";
+            case NotStarted -> "Game not started, both players must place their ships!";
+            case Finished -> "Game is finished!";
+            default -> "Cannot move now!";
+        };
+    }
+
+    private void sendToUser(String username, String destination, Object msg) {
+        if (username == null) {
+            return;
         }
-        game.setBlocked(true);
-        repository.save(game);
+        if (ownership.isEnabled() && userRegistry.getUser(username) == null) {
+            forwarder.sendToUser(username, destination, msg);
+            return;
+        }
+        simpMessagingTemplate.convertAndSendToUser(username, destination, msg);
+    }
 
-        movePublisher.sendHit(
-                move.getX(),
-                move.getY(),
-                game.getCurrentState(),
-                game.getCurrentTargets(),
+    private void shoot(GameState game, int x, int y) {
+        shoot(game, x, y, game.getCurrentBoard(), game.getCurrentTargetTable());
+    }
+
+    private void shoot(GameState game, int x, int y, Board board, Optional<ShipTable> targets) {
+        var sent = System.nanoTime();
+        if (validationMode == ValidationMode.Local) {
+            var start = System.nanoTime();
+            var result = shotValidator.validate(
+                    game.getId(),
+                    x,
+                    y,
+                    board,
+                    targets
+            );
+            moveMetrics.record(MoveStage.Validate, game, start);
+            moveMetrics.time(MoveStage.Apply, game, () -> applyMove(game, result));
+            moveMetrics.moveResolved(ValidationMode.Local, sent);
+            return;
+        }
+        var correlationId = movePublisher.sendHit(
+                x,
+                y,
+                board != null ? board.toString() : null,
+                targets.orElse(null),
                 game.getId(),
-                game.getRuleset()
+                game.getRuleset(),
+                game.getCurrentPlayer()
         );
+        moveMetrics.record(MoveStage.Publish, game, sent);
+        moveMetrics.moveSent(correlationId, sent);
+    }
 
-        return MoveMessage.of(move.getX(), move.getY(), username, null);
+    public CompletableFuture<Void> doMakeAIMove(EngineAIMoveEvent event) {
+        if (!ownership.isOwner(event.getGameId())) {
+            return forwarded(CommandType.EngineAIMove, event.getGameId(), event);
+        }
+        return mailbox.submit(event.getGameId(), () -> makeAIMove(event));
+    }
+
+    private void makeAIMove(EngineAIMoveEvent event) {
+        if (!requests.complete(event.getCorrelationId())) {
+            logger.debug("Discarding late AI move for game {}", event.getGameId());
+            return;
+        }
+        var game = findGame(event.getGameId()).orElseThrow();
+        shoot(game, event.getRow(), event.getColumn());
     }
 
     public Optional<GameState> getGameById(Long id) {
-        return repository.findById(id);
+        return cache.findById(id);
+    }
+
+    private Optional<GameState> findGame(Long gameId) {
+        var start = System.nanoTime();
+        var game = getGameById(gameId);
+        game.ifPresent((g) -> moveMetrics.record(MoveStage.Load, g, start));
+        return game;
     }
 
-    private boolean canPlayerMove(GameState game, MoveRequest move, String username) {
-        return ((username.equals(game.getUsername1()) && game.isFirstUserTurn()) ||
-                (username.equals(game.getUsername2()) && game.isSecondUserTurn()));
+    public CompletableFuture<SerializedMessage> subscribe(Long gameId) {
+        return ensureLoaded(gameId)
+                .thenCompose((loaded) -> mailbox.submit(gameId, () -> doSubscribe(gameId)));
     }
 
-    public GameMessage subscribe(Long gameId) {
+    private SerializedMessage doSubscribe(Long gameId) {
         var gameOpt = getGameById(gameId);
         if (gameOpt.isEmpty()) {
-            gamePublisher.getGame(gameId);
             var msg = new GameMessage();
-            msg.setError("Loading game, please wait…");
-            return msg;
+            msg.setError("Loading game failed, please try again!");
+            return snapshots.serialize(msg);
         }
         var game = gameOpt.get();
-        return GameMessage.of(game);
+        return snapshots.get(game);
+    }
+
+    public CompletableFuture<Void> loadGame(StateEvent event) {
+        if (!ownership.isOwner(event.getId())) {
+            return forwarded(CommandType.State, event.getId(), event);
+        }
+        return mailbox.submit(event.getId(), () -> doLoadGame(event));
     }
 
-    public void loadGame(StateEvent event) {
+    private void doLoadGame(StateEvent event) {
         if (event.isError()) {
             logger.debug("Error in state event for game {}", event.getId());
             var msg = new GameMessage();
             msg.setError(event.getErrorMessage());
             simpMessagingTemplate.convertAndSend("/topic/board/" + event.getId(), msg);
+            loader.failed(event.getId(), event.getErrorMessage());
             return;
         }
         if (event.isFinished()) {
@@ -104,44 +278,56 @@ public class GameService {
             var msg = new GameMessage();
             msg.setError("Game is already finished!");
             simpMessagingTemplate.convertAndSend("/topic/board/" + event.getId(), msg);
+            loader.failed(event.getId(), "Game is already finished!");
             return;
         }
 
         logger.debug("Adding state for game {} to Redis", event.getId());
-        var game = new GameState();
-        game.setId(event.getId());
-        game.setUsername1(event.getUsername1());
-        game.setUsername2(event.getUsername2());
-        game.setUser2AI(event.isUser2AI());
-
-        game.setFirstUserStarts(event.isFirstUserStarts());
-        game.setFirstUserTurn(event.isFirstUserTurn());
-
-        game.setUserCurrentState(event.getUserCurrentState());
-        game.setUserShips(event.getUserShips());
-        game.setOpponentCurrentState(event.getOpponentCurrentState());
-        game.setOpponentShips(event.getOpponentShips());
-        game.setRuleset(event.getRuleset());
-        game.setAiType(event.getAiType());
-        repository.save(game);
+        var game = GameState.of(event);
+        cache.save(game);
+        snapshots.evict(game.getId());
+        loader.loaded(game);
         logger.debug("Sending state of game {} to websocket topic", event.getId());
-        var msg = GameMessage.of(game);
+        var msg = snapshots.get(game);
         simpMessagingTemplate.convertAndSend("/topic/board/" + game.getId(), msg);
-        if (game.aiTurn() && msg.isGameStarted()) {
+        var gameStarted = game.isGameStarted();
+        if (game.aiTurn() && gameStarted) {
             logger.debug("Asking AI engine for move in game {}", event.getId());
             movePublisher.sendAIEvent(game, Phase.Move);
-        } else if (game.isUser2AI() && !msg.isGameStarted() && game.getOpponentShips().equals("[]")) {
+        } else if (game.isAIPlacementPending()) {
             logger.debug("Asking AI engine for ship placement in game {}", event.getId());
             movePublisher.sendAIEvent(game, Phase.Placement);
         }
     }
 
-    public void doMakeMove(EngineMoveEvent event) {
-        var game = getGameById(event.getGameId()).orElseThrow();
+    public CompletableFuture<Void> doMakeMove(EngineMoveEvent event) {
+        if (!ownership.isOwner(event.getGameId())) {
+            return forwarded(CommandType.EngineMove, event.getGameId(), event);
+        }
+        return mailbox.submit(event.getGameId(), () -> makeMove(event));
+    }
+
+    private void makeMove(EngineMoveEvent event) {
+        if (!requests.complete(event.getCorrelationId())) {
+            logger.debug("Discarding late move result for game {}", event.getGameId());
+            return;
+        }
+        try {
+            var game = findGame(event.getGameId()).orElseThrow();
+            moveMetrics.engineResponded(event.getCorrelationId(), game);
+            moveMetrics.time(MoveStage.Apply, game, () -> applyMove(game, event));
+            moveMetrics.moveResolved(event.getCorrelationId());
+        } finally {
+            moveMetrics.abandoned(event.getCorrelationId());
+        }
+    }
+
+    private void applyMove(GameState game, EngineMoveEvent event) {
         if (!event.isLegal()) {
             game.setBlocked(false);
-            simpMessagingTemplate.convertAndSend(
-                    "/topic/game/" + game.getId(),
+            sendToUser(
+                    game.getCurrentPlayer(),
+                    "/queue/game/" + game.getId(),
                     MoveMessage.rejected(
                             event.getRow(),
                             event.getColumn(),
@@ -149,11 +335,18 @@ public class GameService {
                             "Move is illegal!"
                     )
             );
-            repository.save(game);
+            cache.save(game);
             return;
         }
 
+        if (event.getResult() == MoveResult.Hit || event.getResult() == MoveResult.Sunk) {
+            game.recordHit(event.getRow(), event.getColumn(), event.getResult() == MoveResult.Sunk);
+        }
+        var oldState = game.getCurrentBoard();
         game.changeState(event.getNewState());
+        var newState = game.getCurrentBoard();
+        var changes = oldState != null && newState != null ? oldState.diff(newState) : null;
+        var sequence = game.nextSequence();
         if (event.isFinished()) {
             game.setFinished(true);
             if (game.isFirstUserTurn()) {
@@ -163,91 +356,201 @@ public class GameService {
             }
         }
         var msg = MoveMessage.of(event.getRow(), event.getColumn(), game.getCurrentPlayer(), event.getResult());
+        msg.setSequence(sequence);
+        msg.setChanges(changes);
         if (game.isFinished()) {
             msg.setFinished(true);
             msg.setWon(game.isWon());
             msg.setWinner(game.getWinner().orElse(null));
-            repository.deleteById(game.getId());
+            moveMetrics.time(MoveStage.Save, game, () -> cache.deleteById(game.getId()));
+            snapshots.evict(game.getId());
         } else {
             game.nextPlayer();
             game.setBlocked(false);
-            repository.save(game);
+            moveMetrics.time(MoveStage.Save, game, () -> cache.save(game));
         }
-        statePublisher.publish(game, event.getRow(), event.getColumn());
+        moveMetrics.time(MoveStage.Publish, game, () -> statePublisher.publish(game, event.getRow(), event.getColumn()));
 
-        simpMessagingTemplate.convertAndSend("/topic/game/" + game.getId(), msg);
+        moveMetrics.time(MoveStage.Broadcast, game, () -> simpMessagingTemplate.convertAndSend("/topic/game/" + game.getId(), msg));
         if (!game.isFinished() && game.aiTurn()) {
-            movePublisher.sendAIEvent(game, Phase.Move);
+            moveMetrics.time(MoveStage.Publish, game, () -> movePublisher.sendAIEvent(game, Phase.Move));
+        }
+    }
+
+    public CompletableFuture<Void> doPlaceShips(EnginePlacementEvent event) {
+        if (!ownership.isOwner(event.getGameId())) {
+            return forwarded(CommandType.EnginePlacement, event.getGameId(), event);
+        }
+        return mailbox.submit(event.getGameId(), () -> placeShips(event));
+    }
+
+    private void placeShips(EnginePlacementEvent event) {
+        if (!requests.complete(event.getCorrelationId())) {
+            logger.debug("Discarding late placement for game {}", event.getGameId());
+            return;
+        }
+        try {
+            var game = findGame(event.getGameId()).orElseThrow();
+            moveMetrics.placementResolved(event.getCorrelationId(), game);
+            moveMetrics.time(MoveStage.PlacementApply, game, () -> applyPlacement(game, event));
+        } finally {
+            moveMetrics.abandoned(event.getCorrelationId());
         }
     }
 
-    public void doPlaceShips(EnginePlacementEvent event) {
-        var game = getGameById(event.getGameId()).orElseThrow();
+    private void applyPlacement(GameState game, EnginePlacementEvent event) {
         var username = event.isFirstUser() ? game.getUsername1() : game.getUsername2();
-        if (!event.isLegal()) {
-            simpMessagingTemplate.convertAndSend(
-                    "/topic/placement/" + event.getGameId(),
+        var ships = event.isLegal() ? ShipTable.parse(event.getShips()) : Optional.<ShipTable>empty();
+        if (ships.isEmpty()) {
+            sendToUser(
+                    username,
+                    "/queue/placement/" + event.getGameId(),
                     PlacementMessage.rejected(username)
             );
             return;
         }
         if (event.isFirstUser()) {
-            game.setUserShips(event.getShips());
+            game.setUserShipTable(ships.get());
         } else {
-            game.setOpponentShips(event.getShips());
+            game.setOpponentShipTable(ships.get());
         }
-        repository.save(game);
-        statePublisher.publish(game);
-        simpMessagingTemplate.convertAndSend(
+        moveMetrics.time(MoveStage.Save, game, () -> cache.save(game));
+        moveMetrics.time(MoveStage.Publish, game, () -> statePublisher.publish(game));
+        moveMetrics.time(MoveStage.Broadcast, game, () -> simpMessagingTemplate.convertAndSend(
                 "/topic/placement/" + event.getGameId(),
                 PlacementMessage.accepted(username)
-        );
+        ));
 
         if (game.isGameStarted() && game.aiTurn()) {
             movePublisher.sendAIEvent(game, Phase.Move);
         }
     }
 
-    public PlacementMessage place(Long gameId, PlacementRequest request, String username) {
-        var gameOpt = getGameById(gameId);
+    private void handleTimeout(PendingRequest request) {
+        if (!ownership.isOwner(request.getGameId())) {
+            logger.debug("Game {} moved to another node, dropping {} timeout", request.getGameId(), request.getType());
+            return;
+        }
+        var gameOpt = getGameById(request.getGameId());
+        if (gameOpt.isEmpty()) {
+            return;
+        }
+        var game = gameOpt.get();
+        logger.warn("Engine did not answer {} request for game {}", request.getType(), game.getId());
+        switch (request.getType()) {
+            case Move -> {
+                game.setBlocked(false);
+                cache.save(game);
+                if (game.aiTurn()) {
+                    retryAI(game, Phase.Move, request);
+                    return;
+                }
+                sendToUser(
+                        request.getUsername(),
+                        "/queue/game/" + game.getId(),
+                        MoveMessage.rejected(
+                                request.getRow(),
+                                request.getColumn(),
+                                request.getUsername(),
+                                "Move timed out, please try again!"
+                        )
+                );
+            }
+            case AIMove -> {
+                if (!game.isFinished() && game.aiTurn()) {
+                    retryAI(game, Phase.Move, request);
+                }
+            }
+            case AIPlacement -> {
+                if (game.isAIPlacementPending()) {
+                    retryAI(game, Phase.Placement, request);
+                }
+            }
+            case Placement -> sendToUser(
+                    request.getUsername(),
+                    "/queue/placement/" + game.getId(),
+                    PlacementMessage.rejected(request.getUsername())
+            );
+        }
+    }
+
+    private void retryAI(GameState game, Phase phase, PendingRequest request) {
+        if (request.getAttempt() >= maxRetries) {
+            logger.warn("Giving up on AI {} for game {}", phase, game.getId());
+            return;
+        }
+        movePublisher.sendAIEvent(game, phase, request.getAttempt() + 1);
+    }
+
+    public CompletableFuture<Void> place(Long gameId, PlacementRequest request, String username) {
+        if (!ownership.isOwner(gameId)) {
+            return forwarder.forward(CommandType.Placement, gameId, username, request)
+                    .handle((result, e) -> {
+                        if (e != null) {
+                            logger.warn("Forwarding placement for game {} failed: {}", gameId, e.getMessage());
+                            sendToUser(username, "/queue/placement/" + gameId, PlacementMessage.rejected(username));
+                        }
+                        return null;
+                    });
+        }
+        return placeLocally(gameId, request, username);
+    }
+
+    private CompletableFuture<Void> forwarded(CommandType type, Long gameId, Object event) {
+        return forwarder.forward(type, gameId, null, event)
+                .handle((result, e) -> {
+                    if (e != null) {
+                        logger.warn("Forwarding {} for game {} failed: {}", type, gameId, e.getMessage());
+                    }
+                    return null;
+                });
+    }
+
+    private CompletableFuture<Void> placeLocally(Long gameId, PlacementRequest request, String username) {
+        return whenLoaded(gameId)
+                .thenCompose((loaded) -> mailbox.submit(gameId, () -> doPlace(gameId, request, username)));
+    }
+
+    private void doPlace(Long gameId, PlacementRequest request, String username) {
+        var gameOpt = findGame(gameId);
         if (gameOpt.isEmpty()) {
             var msg = PlacementMessage.rejected(username);
-            simpMessagingTemplate.convertAndSend("/topic/placement/" + gameId, msg);
-            return msg;
+            sendToUser(username, "/queue/placement/" + gameId, msg);
+            return;
         }
         var game = gameOpt.get();
         if (game.isGameStarted() || game.isFinished()) {
             var msg = PlacementMessage.rejected(username);
-            simpMessagingTemplate.convertAndSend("/topic/placement/" + gameId, msg);
-            return msg;
+            sendToUser(username, "/queue/placement/" + gameId, msg);
+            return;
         }
         if (!game.isUserInGame(username)) {
             var msg = PlacementMessage.rejected(username);
-            simpMessagingTemplate.convertAndSend("/topic/placement/" + gameId, msg);
-            return msg;
+            sendToUser(username, "/queue/placement/" + gameId, msg);
+            return;
         }
-        if (game.getUsername1().equals(username) && !game.getUserShips().equals("[]")) {
+        if (game.getUsername1().equals(username) && game.hasUserShips()) {
             var msg = PlacementMessage.rejected(username);
-            simpMessagingTemplate.convertAndSend("/topic/placement/" + gameId, msg);
-            return msg;
+            sendToUser(username, "/queue/placement/" + gameId, msg);
+            return;
         }
-        if (game.getUsername2().equals(username) && !game.getOpponentShips().equals("[]")) {
+        if (game.getUsername2().equals(username) && game.hasOpponentShips()) {
             var msg = PlacementMessage.rejected(username);
-            simpMessagingTemplate.convertAndSend("/topic/placement/" + gameId, msg);
-            return msg;
+            sendToUser(username, "/queue/placement/" + gameId, msg);
+            return;
         }
 
-        ObjectMapper objectMapper = new ObjectMapper();
         try {
-            String shipsString = objectMapper.writeValueAsString(request.getShips());
+            var ships = ShipTable.of(request.getShips());
             var firstUser = game.getUsername1().equals(username);
-            movePublisher.sendPlacement(gameId, game, firstUser, shipsString);
-            return null;
+            var sent = System.nanoTime();
+            var correlationId = movePublisher.sendPlacement(gameId, game, firstUser, ships);
+            moveMetrics.record(MoveStage.Publish, game, sent);
+            moveMetrics.placementSent(correlationId, sent);
         } catch (Exception e) {
-            logger.error("Failed to convert ships to string: {}, {}", request.getShips(), e.getMessage());
+            logger.error("Failed to convert ships: {}, {}", request.getShips(), e.getMessage());
             var msg = PlacementMessage.rejected(username);
-            simpMessagingTemplate.convertAndSend("/topic/placement/" + gameId, msg);
-            return msg;
+            sendToUser(username, "/queue/placement/" + gameId, msg);
         }
     }
 }
@@ -1,25 +1,36 @@
 package io.github.xpakx.battleships.game;
 
+import io.github.xpakx.battleships.game.board.Board;
+import io.github.xpakx.battleships.game.board.BoardCodec;
+import io.github.xpakx.battleships.game.board.ShipTable;
+import io.github.xpakx.battleships.game.dto.StateEvent;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
-import org.springframework.data.redis.core.RedisHash;
 
 import java.io.Serializable;
 import java.util.Optional;
 
 @Getter
 @Setter
-@RedisHash
 public class GameState implements Serializable {
     private Long id;
     private boolean finished;
     private boolean won;
     private boolean lost;
     private boolean drawn;
-    private String userCurrentState;
-    private String opponentCurrentState;
-    private String userShips;
-    private String opponentShips;
+    @Getter(AccessLevel.PACKAGE)
+    @Setter(AccessLevel.PACKAGE)
+    private byte[] userBoardData;
+    @Getter(AccessLevel.PACKAGE)
+    @Setter(AccessLevel.PACKAGE)
+    private byte[] opponentBoardData;
+    @Getter(AccessLevel.PACKAGE)
+    @Setter(AccessLevel.PACKAGE)
+    private byte[] userShipsData;
+    @Getter(AccessLevel.PACKAGE)
+    @Setter(AccessLevel.PACKAGE)
+    private byte[] opponentShipsData;
 
     private String username1;
     private String username2;
@@ -29,8 +40,126 @@ public class GameState implements Serializable {
 
     private boolean firstUserStarts;
     private boolean firstUserTurn;
+    private long sequence;
+    private long version;
 
     private boolean blocked;
+    @Getter(AccessLevel.PACKAGE)
+    @Setter(AccessLevel.PACKAGE)
+    private transient int dirtyFields = GameStateCodec.ALL;
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private transient String userCurrentState;
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private transient String opponentCurrentState;
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private transient Board userBoard;
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private transient Board opponentBoard;
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private transient ShipTable userShipTable;
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private transient ShipTable opponentShipTable;
+
+    public String getUserCurrentState() {
+        if (userCurrentState == null) {
+            userCurrentState = BoardCodec.decode(userBoardData);
+        }
+        return userCurrentState;
+    }
+
+    public String getOpponentCurrentState() {
+        if (opponentCurrentState == null) {
+            opponentCurrentState = BoardCodec.decode(opponentBoardData);
+        }
+        return opponentCurrentState;
+    }
+
+    public void setUserCurrentState(String userCurrentState) {
+        this.userCurrentState = userCurrentState;
+        this.userBoardData = BoardCodec.encode(userCurrentState);
+        this.userBoard = null;
+        dirtyFields |= GameStateCodec.USER_BOARD;
+    }
+
+    public void setOpponentCurrentState(String opponentCurrentState) {
+        this.opponentCurrentState = opponentCurrentState;
+        this.opponentBoardData = BoardCodec.encode(opponentCurrentState);
+        this.opponentBoard = null;
+        dirtyFields |= GameStateCodec.OPPONENT_BOARD;
+    }
+
+    public void setUserShips(String userShips) {
+        setUserShipTable(parseShips(userShips, getUserBoard()));
+    }
+
+    public void setOpponentShips(String opponentShips) {
+        setOpponentShipTable(parseShips(opponentShips, getOpponentBoard()));
+    }
+
+    private static ShipTable parseShips(String ships, Board board) {
+        var table = ShipTable.parse(ships).orElse(null);
+        if (table != null && board != null) {
+            table.countHits(board);
+        }
+        return table;
+    }
+
+    public void setUserShipTable(ShipTable userShipTable) {
+        this.userShipTable = userShipTable;
+        this.userShipsData = userShipTable != null ? userShipTable.toBytes() : null;
+        dirtyFields |= GameStateCodec.USER_SHIPS;
+        version++;
+    }
+
+    public void setOpponentShipTable(ShipTable opponentShipTable) {
+        this.opponentShipTable = opponentShipTable;
+        this.opponentShipsData = opponentShipTable != null ? opponentShipTable.toBytes() : null;
+        dirtyFields |= GameStateCodec.OPPONENT_SHIPS;
+        version++;
+    }
+
+    public Board getUserBoard() {
+        if (userBoard == null) {
+            userBoard = BoardCodec.toBoard(userBoardData);
+        }
+        return userBoard;
+    }
+
+    public Board getOpponentBoard() {
+        if (opponentBoard == null) {
+            opponentBoard = BoardCodec.toBoard(opponentBoardData);
+        }
+        return opponentBoard;
+    }
+
+    public Optional<ShipTable> getUserShipTable() {
+        if (userShipTable == null) {
+            userShipTable = ShipTable.fromBytes(userShipsData);
+        }
+        return Optional.ofNullable(userShipTable);
+    }
+
+    public Optional<ShipTable> getOpponentShipTable() {
+        if (opponentShipTable == null) {
+            opponentShipTable = ShipTable.fromBytes(opponentShipsData);
+        }
+        return Optional.ofNullable(opponentShipTable);
+    }
+
+    public boolean hasUserShips() {
+        return getUserShipTable().map((table) -> !table.isEmpty()).orElse(false);
+    }
+
+    public boolean hasOpponentShips() {
+        return getOpponentShipTable().map((table) -> !table.isEmpty()).orElse(false);
+    }
 
     public boolean isSecondUserTurn() {
         return !isFirstUserTurn();
@@ -43,6 +172,7 @@ public class GameState implements Serializable {
 
     public void nextPlayer() {
         firstUserTurn = !firstUserTurn;
+        version++;
     }
 
     public String getCurrentPlayer() {
@@ -52,18 +182,25 @@ public class GameState implements Serializable {
         return username2;
     }
 
-    public String getCurrentTargets() {
+    public String getCurrentState() {
         if (isFirstUserTurn()) {
-            return opponentShips;
+            return getOpponentCurrentState();
         }
-        return userShips;
+        return getUserCurrentState();
     }
 
-    public String getCurrentState() {
+    public Board getCurrentBoard() {
         if (isFirstUserTurn()) {
-            return opponentCurrentState;
+            return getOpponentBoard();
         }
-        return userCurrentState;
+        return getUserBoard();
+    }
+
+    public Optional<ShipTable> getCurrentTargetTable() {
+        if (isFirstUserTurn()) {
+            return getOpponentShipTable();
+        }
+        return getUserShipTable();
     }
 
     public boolean aiTurn() {
@@ -79,16 +216,83 @@ public class GameState implements Serializable {
     }
 
     public boolean isGameStarted() {
-        return !userShips.equals("[]") && !opponentShips.equals("[]");
+        return hasUserShips() && hasOpponentShips();
+    }
+
+    public boolean isAIPlacementPending() {
+        return user2AI && !hasOpponentShips();
+    }
+
+    public static GameState of(StateEvent event) {
+        var game = new GameState();
+        game.setId(event.getId());
+        game.setUsername1(event.getUsername1());
+        game.setUsername2(event.getUsername2());
+        game.setUser2AI(event.isUser2AI());
+
+        game.setFirstUserStarts(event.isFirstUserStarts());
+        game.setFirstUserTurn(event.isFirstUserTurn());
 
+        game.setUserCurrentState(event.getUserCurrentState());
+        game.setUserShips(event.getUserShips());
+        game.setOpponentCurrentState(event.getOpponentCurrentState());
+        game.setOpponentShips(event.getOpponentShips());
+        game.setRuleset(event.getRuleset());
+        game.setAiType(event.getAiType());
+        game.setVersion(System.currentTimeMillis());
+        return game;
+    }
+
+    public void recordHit(int row, int column, boolean sunk) {
+        var targets = getCurrentTargetTable();
+        if (targets.isEmpty()) {
+            return;
+        }
+        var table = targets.get();
+        var ship = table.shipAt(row, column);
+        if (ship < 0) {
+            return;
+        }
+        if (sunk) {
+            table.sink(ship);
+        } else {
+            table.recordHit(ship);
+        }
+        if (isFirstUserTurn()) {
+            opponentShipsData = table.toBytes();
+            dirtyFields |= GameStateCodec.OPPONENT_SHIPS;
+        } else {
+            userShipsData = table.toBytes();
+            dirtyFields |= GameStateCodec.USER_SHIPS;
+        }
+    }
+
+    public long nextSequence() {
+        return ++sequence;
     }
 
     public void changeState(String newState) {
         if (isFirstUserTurn()) {
-            opponentCurrentState = newState;
+            setOpponentCurrentState(newState);
+        } else {
+            setUserCurrentState(newState);
+        }
+        version++;
+    }
+
+    public void changeState(Board newState) {
+        if (isFirstUserTurn()) {
+            opponentCurrentState = null;
+            opponentBoardData = BoardCodec.encode(newState);
+            opponentBoard = newState;
+            dirtyFields |= GameStateCodec.OPPONENT_BOARD;
         } else {
-            userCurrentState = newState;
+            userCurrentState = null;
+            userBoardData = BoardCodec.encode(newState);
+            userBoard = newState;
+            dirtyFields |= GameStateCodec.USER_BOARD;
         }
+        version++;
     }
 }
 
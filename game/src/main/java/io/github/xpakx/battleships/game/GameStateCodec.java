@@ -0,0 +1,178 @@
+package io.github.xpakx.battleships.game;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+public class GameStateCodec {
+    public static final int INFO = 1;
+    public static final int USER_BOARD = 1 << 1;
+    public static final int OPPONENT_BOARD = 1 << 2;
+    public static final int USER_SHIPS = 1 << 3;
+    public static final int OPPONENT_SHIPS = 1 << 4;
+    public static final int ALL = INFO | USER_BOARD | OPPONENT_BOARD | USER_SHIPS | OPPONENT_SHIPS;
+
+    private static final String INFO_FIELD = "i";
+    private static final String STATE_FIELD = "s";
+    private static final String USER_BOARD_FIELD = "b1";
+    private static final String OPPONENT_BOARD_FIELD = "b2";
+    private static final String USER_SHIPS_FIELD = "s1";
+    private static final String OPPONENT_SHIPS_FIELD = "s2";
+    private static final byte[] EMPTY = new byte[0];
+
+    public static Map<byte[], byte[]> encode(GameState game) {
+        var dirty = game.getDirtyFields();
+        var fields = new HashMap<byte[], byte[]>();
+        fields.put(bytes(STATE_FIELD), encodeState(game));
+        if ((dirty & INFO) != 0) {
+            fields.put(bytes(INFO_FIELD), encodeInfo(game));
+        }
+        if ((dirty & USER_BOARD) != 0) {
+            fields.put(bytes(USER_BOARD_FIELD), orEmpty(game.getUserBoardData()));
+        }
+        if ((dirty & OPPONENT_BOARD) != 0) {
+            fields.put(bytes(OPPONENT_BOARD_FIELD), orEmpty(game.getOpponentBoardData()));
+        }
+        if ((dirty & USER_SHIPS) != 0) {
+            fields.put(bytes(USER_SHIPS_FIELD), orEmpty(game.getUserShipsData()));
+        }
+        if ((dirty & OPPONENT_SHIPS) != 0) {
+            fields.put(bytes(OPPONENT_SHIPS_FIELD), orEmpty(game.getOpponentShipsData()));
+        }
+        return fields;
+    }
+
+    public static GameState decode(Long id, Map<byte[], byte[]> fields) {
+        if (fields == null || fields.isEmpty()) {
+            return null;
+        }
+        var values = new HashMap<String, byte[]>();
+        for (var entry : fields.entrySet()) {
+            values.put(new String(entry.getKey(), StandardCharsets.UTF_8), entry.getValue());
+        }
+        var info = values.get(INFO_FIELD);
+        var state = values.get(STATE_FIELD);
+        if (info == null || state == null) {
+            return null;
+        }
+        var game = new GameState();
+        game.setId(id);
+        decodeInfo(game, info);
+        decodeState(game, state);
+        game.setUserBoardData(orNull(values.get(USER_BOARD_FIELD)));
+        game.setOpponentBoardData(orNull(values.get(OPPONENT_BOARD_FIELD)));
+        game.setUserShipsData(orNull(values.get(USER_SHIPS_FIELD)));
+        game.setOpponentShipsData(orNull(values.get(OPPONENT_SHIPS_FIELD)));
+        game.setDirtyFields(0);
+        return game;
+    }
+
+    static byte[] encodeInfo(GameState game) {
+        var bytes = new ByteArrayOutputStream(64);
+        try (var out = new DataOutputStream(bytes)) {
+            out.writeByte(flags(game.isUser2AI(), game.isFirstUserStarts()));
+            writeString(out, game.getUsername1());
+            writeString(out, game.getUsername2());
+            out.writeByte(game.getRuleset() != null ? game.getRuleset().ordinal() : -1);
+            out.writeByte(game.getAiType() != null ? game.getAiType().ordinal() : -1);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static byte[] encodeState(GameState game) {
+        var bytes = new ByteArrayOutputStream(17);
+        try (var out = new DataOutputStream(bytes)) {
+            out.writeByte(flags(game.isFinished(), game.isWon(), game.isLost(), game.isDrawn(), game.isFirstUserTurn()));
+            out.writeLong(game.getSequence());
+            out.writeLong(game.getVersion());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    public static long readVersion(byte[] state) {
+        try (var in = new DataInputStream(new ByteArrayInputStream(state))) {
+            in.skipBytes(1 + Long.BYTES);
+            return in.readLong();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void decodeInfo(GameState game, byte[] info) {
+        try (var in = new DataInputStream(new ByteArrayInputStream(info))) {
+            var flags = in.readByte();
+            game.setUser2AI(flag(flags, 0));
+            game.setFirstUserStarts(flag(flags, 1));
+            game.setUsername1(readString(in));
+            game.setUsername2(readString(in));
+            var ruleset = in.readByte();
+            game.setRuleset(ruleset >= 0 ? GameRuleset.values()[ruleset] : null);
+            var aiType = in.readByte();
+            game.setAiType(aiType >= 0 ? AIType.values()[aiType] : null);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void decodeState(GameState game, byte[] state) {
+        try (var in = new DataInputStream(new ByteArrayInputStream(state))) {
+            var flags = in.readByte();
+            game.setFinished(flag(flags, 0));
+            game.setWon(flag(flags, 1));
+            game.setLost(flag(flags, 2));
+            game.setDrawn(flag(flags, 3));
+            game.setFirstUserTurn(flag(flags, 4));
+            game.setSequence(in.readLong());
+            game.setVersion(in.readLong());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static int flags(boolean... values) {
+        var flags = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i]) {
+                flags |= 1 << i;
+            }
+        }
+        return flags;
+    }
+
+    private static boolean flag(byte flags, int bit) {
+        return (flags & (1 << bit)) != 0;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static byte[] orEmpty(byte[] value) {
+        return value != null ? value : EMPTY;
+    }
+
+    private static byte[] orNull(byte[] value) {
+        return value != null && value.length > 0 ? value : null;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,146 @@
+package io.github.xpakx.battleships.game;
+
+import io.github.xpakx.battleships.clients.GamePublisher;
+import io.github.xpakx.battleships.clients.MovePublisher;
+import io.github.xpakx.battleships.clients.event.Phase;
+import io.github.xpakx.battleships.cluster.CommandForwarder;
+import io.github.xpakx.battleships.cluster.CommandType;
+import io.github.xpakx.battleships.cluster.GameOwnership;
+import io.github.xpakx.battleships.game.dto.StateBatchEvent;
+import io.github.xpakx.battleships.game.dto.StateEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * State batches arrive on the shared durable queue, so any single node warms
+ * the shared Redis; AI turns are resumed only by the owner of each game.
+ */
+@Component
+public class GameWarmup {
+    private final GamePublisher gamePublisher;
+    private final MovePublisher movePublisher;
+    private final GameCache cache;
+    private final GameLoader loader;
+    private final GameOwnership ownership;
+    private final CommandForwarder forwarder;
+    private final boolean enabled;
+    private final int pageSize;
+    private final Counter loadedCounter;
+    private final Counter skippedCounter;
+    private final Timer durationTimer;
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicLong processed = new AtomicLong();
+    private volatile long startedAt;
+    Logger logger = LoggerFactory.getLogger(GameWarmup.class);
+
+    public GameWarmup(
+            GamePublisher gamePublisher,
+            MovePublisher movePublisher,
+            GameCache cache,
+            GameLoader loader,
+            GameOwnership ownership,
+            CommandForwarder forwarder,
+            MeterRegistry registry,
+            @Value("${game.warmup.enabled}") boolean enabled,
+            @Value("${game.warmup.page-size}") int pageSize
+    ) {
+        this.gamePublisher = gamePublisher;
+        this.movePublisher = movePublisher;
+        this.cache = cache;
+        this.loader = loader;
+        this.ownership = ownership;
+        this.forwarder = forwarder;
+        this.enabled = enabled;
+        this.pageSize = pageSize;
+        this.loadedCounter = Counter.builder("game.warmup.loaded")
+                .description("Games written to Redis during warm-up")
+                .register(registry);
+        this.skippedCounter = Counter.builder("game.warmup.skipped")
+                .description("Games already present in Redis during warm-up")
+                .register(registry);
+        this.durationTimer = Timer.builder("game.warmup.duration")
+                .description("Time from requesting warm-up to loading the last batch")
+                .register(registry);
+        Gauge.builder("game.warmup.total", total, AtomicLong::get)
+                .description("Active games reported by the main service")
+                .register(registry);
+        Gauge.builder("game.warmup.processed", processed, AtomicLong::get)
+                .description("Games processed so far during warm-up")
+                .register(registry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        startedAt = System.nanoTime();
+        processed.set(0);
+        logger.info("Requesting warm-up of active games");
+        gamePublisher.requestWarmup(pageSize);
+    }
+
+    public void load(StateBatchEvent batch) {
+        total.set(batch.getTotal());
+        var events = batch.getGames().stream()
+                .filter((event) -> !event.isError() && !event.isFinished())
+                .collect(Collectors.toMap(StateEvent::getId, Function.identity(), (a, b) -> b));
+        var games = events.values().stream()
+                .map(GameState::of)
+                .toList();
+        var written = cache.saveAbsent(games);
+        loadedCounter.increment(written.size());
+        skippedCounter.increment(games.size() - written.size());
+        processed.addAndGet(batch.getGames().size());
+        for (var game : written) {
+            loader.loaded(game);
+            resumeAI(game, events.get(game.getId()));
+        }
+        if (batch.isLast()) {
+            finish();
+        }
+    }
+
+    private void resumeAI(GameState game, StateEvent event) {
+        var move = game.aiTurn() && game.isGameStarted();
+        if (!move && !game.isAIPlacementPending()) {
+            return;
+        }
+        if (!ownership.isOwner(game.getId())) {
+            forwarder.forward(CommandType.State, game.getId(), null, event)
+                    .exceptionally((e) -> {
+                        logger.warn("Cannot hand game {} over to its owner: {}", game.getId(), e.getMessage());
+                        return false;
+                    });
+            return;
+        }
+        movePublisher.sendAIEvent(game, move ? Phase.Move : Phase.Placement);
+    }
+
+    private void finish() {
+        if (startedAt == 0) {
+            return;
+        }
+        var duration = System.nanoTime() - startedAt;
+        startedAt = 0;
+        durationTimer.record(duration, TimeUnit.NANOSECONDS);
+        logger.info(
+                "Warm-up finished: {} games in {} ms",
+                processed.get(),
+                TimeUnit.NANOSECONDS.toMillis(duration)
+        );
+    }
+}
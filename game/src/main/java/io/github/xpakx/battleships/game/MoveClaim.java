@@ -0,0 +1,34 @@
+package io.github.xpakx.battleships.game;
+
+import io.github.xpakx.battleships.game.board.Board;
+import io.github.xpakx.battleships.game.board.ShipTable;
+import lombok.Getter;
+
+import java.util.Optional;
+
+@Getter
+public class MoveClaim {
+    private final ClaimStatus status;
+    private final long version;
+    private final Board board;
+    private final Optional<ShipTable> targets;
+
+    private MoveClaim(ClaimStatus status, long version, Board board, Optional<ShipTable> targets) {
+        this.status = status;
+        this.version = version;
+        this.board = board;
+        this.targets = targets;
+    }
+
+    public static MoveClaim rejected(ClaimStatus status) {
+        return new MoveClaim(status, 0, null, Optional.empty());
+    }
+
+    public static MoveClaim claimed(long version, Board board, Optional<ShipTable> targets) {
+        return new MoveClaim(ClaimStatus.Claimed, version, board, targets);
+    }
+
+    public boolean isClaimed() {
+        return status == ClaimStatus.Claimed;
+    }
+}
@@ -0,0 +1,109 @@
+package io.github.xpakx.battleships.game;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class MoveMetrics {
+    private final MeterRegistry registry;
+    private final Map<ValidationMode, Timer> moveTimers = new EnumMap<>(ValidationMode.class);
+    private final Map<String, Timer> stageTimers = new ConcurrentHashMap<>();
+    private final Map<String, Long> pendingMoves = new ConcurrentHashMap<>();
+    private final Map<String, Long> pendingPlacements = new ConcurrentHashMap<>();
+
+    public MoveMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        for (var mode : ValidationMode.values()) {
+            moveTimers.put(
+                    mode,
+                    Timer.builder("game.move.latency")
+                            .description("Time from accepting a shot to applying its result")
+                            .tag("validation", mode.name())
+                            .publishPercentiles(0.5, 0.99, 0.999)
+                            .register(registry)
+            );
+        }
+    }
+
+    public void moveSent(String correlationId, long start) {
+        if (correlationId != null) {
+            pendingMoves.put(correlationId, start);
+        }
+    }
+
+    public void moveResolved(String correlationId) {
+        var start = correlationId != null ? pendingMoves.remove(correlationId) : null;
+        if (start != null) {
+            moveResolved(ValidationMode.Engine, start);
+        }
+    }
+
+    public void moveResolved(ValidationMode mode, long start) {
+        moveTimers.get(mode).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    public void engineResponded(String correlationId, GameState game) {
+        var start = correlationId != null ? pendingMoves.get(correlationId) : null;
+        if (start != null) {
+            record(MoveStage.Engine, game, start);
+        }
+    }
+
+    public void placementSent(String correlationId, long start) {
+        if (correlationId != null) {
+            pendingPlacements.put(correlationId, start);
+        }
+    }
+
+    public void placementResolved(String correlationId, GameState game) {
+        var start = correlationId != null ? pendingPlacements.remove(correlationId) : null;
+        if (start != null) {
+            record(MoveStage.PlacementEngine, game, start);
+        }
+    }
+
+    public void abandoned(String correlationId) {
+        if (correlationId != null) {
+            pendingMoves.remove(correlationId);
+            pendingPlacements.remove(correlationId);
+        }
+    }
+
+    public int pending() {
+        return pendingMoves.size() + pendingPlacements.size();
+    }
+
+    public void time(MoveStage stage, GameState game, Runnable action) {
+        var start = System.nanoTime();
+        try {
+            action.run();
+        } finally {
+            record(stage, game, start);
+        }
+    }
+
+    public void record(MoveStage stage, GameState game, long start) {
+        stageTimer(stage, game).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer stageTimer(MoveStage stage, GameState game) {
+        var ruleset = game.getRuleset() != null ? game.getRuleset().name() : "unknown";
+        var ai = game.getAiType() != null ? game.getAiType().name() : "unknown";
+        return stageTimers.computeIfAbsent(
+                stage.name() + ":" + ruleset + ":" + ai,
+                (key) -> Timer.builder("game.move.stage")
+                        .description("Time spent in a stage of the move and placement pipeline")
+                        .tag("stage", stage.name())
+                        .tag("ruleset", ruleset)
+                        .tag("ai", ai)
+                        .publishPercentiles(0.5, 0.99, 0.999)
+                        .register(registry)
+        );
+    }
+}
@@ -0,0 +1,13 @@
+package io.github.xpakx.battleships.game;
+
+public enum MoveStage {
+    Load,
+    Validate,
+    Engine,
+    Apply,
+    Save,
+    Publish,
+    Broadcast,
+    PlacementEngine,
+    PlacementApply
+}
@@ -0,0 +1,51 @@
+package io.github.xpakx.battleships.game;
+
+import lombok.Getter;
+
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+@Getter
+public class PendingRequest implements Delayed {
+    private final String id;
+    private final Long gameId;
+    private final EngineRequestType type;
+    private final String username;
+    private final Integer row;
+    private final Integer column;
+    private final int attempt;
+    private final long deadline;
+
+    public PendingRequest(
+            String id,
+            Long gameId,
+            EngineRequestType type,
+            String username,
+            Integer row,
+            Integer column,
+            int attempt,
+            long deadline
+    ) {
+        this.id = id;
+        this.gameId = gameId;
+        this.type = type;
+        this.username = username;
+        this.row = row;
+        this.column = column;
+        this.attempt = attempt;
+        this.deadline = deadline;
+    }
+
+    @Override
+    public long getDelay(TimeUnit unit) {
+        return unit.convert(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public int compareTo(Delayed other) {
+        if (other instanceof PendingRequest request) {
+            return Long.compare(deadline, request.deadline);
+        }
+        return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+    }
+}
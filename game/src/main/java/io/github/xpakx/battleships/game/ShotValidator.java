@@ -0,0 +1,69 @@
+package io.github.xpakx.battleships.game;
+
+import io.github.xpakx.battleships.game.board.Board;
+import io.github.xpakx.battleships.game.board.Field;
+import io.github.xpakx.battleships.game.board.ShipTable;
+import io.github.xpakx.battleships.game.dto.EngineMoveEvent;
+import io.github.xpakx.battleships.game.dto.MoveResult;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+@Service
+public class ShotValidator {
+
+    public EngineMoveEvent validate(Long gameId, int row, int column, String gameState, String targets) {
+        return validate(
+                gameId,
+                row,
+                column,
+                gameState != null ? Board.of(gameState) : null,
+                ShipTable.parse(targets)
+        );
+    }
+
+    public EngineMoveEvent validate(Long gameId, int row, int column, Board gameState, Optional<ShipTable> targets) {
+        var event = new EngineMoveEvent();
+        event.setGameId(gameId);
+        event.setRow(row);
+        event.setColumn(column);
+
+        if (gameState == null || targets.isEmpty()) {
+            event.setLegal(false);
+            return event;
+        }
+        var ships = targets.get();
+        if (!gameState.contains(row, column) || !gameState.isEmpty(row, column)) {
+            event.setLegal(false);
+            return event;
+        }
+
+        var board = gameState.copy();
+        var ship = ships.shipAt(row, column);
+        event.setLegal(true);
+        if (ship < 0) {
+            board.set(row, column, Field.Miss);
+            event.setResult(MoveResult.Miss);
+        } else {
+            board.set(row, column, Field.Hit);
+            if (ships.allCellsMatch(board, ship, Field.Hit)) {
+                ships.mark(board, ship, Field.Sunk);
+                event.setResult(MoveResult.Sunk);
+            } else {
+                event.setResult(MoveResult.Hit);
+            }
+        }
+        event.setFinished(allShipsSunk(board, ships));
+        event.setNewState(board.toString());
+        return event;
+    }
+
+    private boolean allShipsSunk(Board board, ShipTable ships) {
+        for (int ship = 0; ship < ships.count(); ship++) {
+            if (!ships.allCellsMatch(board, ship, Field.Sunk)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,62 @@
+package io.github.xpakx.battleships.game;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.xpakx.battleships.game.dto.GameMessage;
+import io.github.xpakx.battleships.game.dto.SerializedMessage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+public class SnapshotCache {
+    private final ObjectMapper mapper;
+    private final Cache<Long, Snapshot> snapshots;
+
+    public SnapshotCache(
+            ObjectMapper mapper,
+            @Value("${game.snapshot.cache-size}") long size,
+            @Value("${game.cache.idle-seconds}") long idleSeconds
+    ) {
+        this.mapper = mapper;
+        this.snapshots = Caffeine.newBuilder()
+                .maximumSize(size)
+                .expireAfterAccess(Duration.ofSeconds(idleSeconds))
+                .build();
+    }
+
+    public SerializedMessage get(GameState game) {
+        var snapshot = snapshots.getIfPresent(game.getId());
+        if (snapshot != null && snapshot.version == game.getVersion()) {
+            return snapshot.message;
+        }
+        var message = serialize(GameMessage.of(game));
+        snapshots.put(game.getId(), new Snapshot(game.getVersion(), message));
+        return message;
+    }
+
+    public SerializedMessage serialize(Object message) {
+        try {
+            return new SerializedMessage(mapper.writeValueAsBytes(message), message);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize message", e);
+        }
+    }
+
+    public void evict(Long gameId) {
+        snapshots.invalidate(gameId);
+    }
+
+    private static class Snapshot {
+        private final long version;
+        private final SerializedMessage message;
+
+        private Snapshot(long version, SerializedMessage message) {
+            this.version = version;
+            this.message = message;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package io.github.xpakx.battleships.game;
 
 import io.github.xpakx.battleships.clients.GamePublisher;
+import io.github.xpakx.battleships.game.dto.StateBatchEvent;
 import io.github.xpakx.battleships.game.dto.StateEvent;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
@@ -13,6 +14,7 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class StateEventHandler {
     private final GameService service;
+    private final GameWarmup warmup;
     Logger logger = LoggerFactory.getLogger(StateEventHandler.class);
 
     @RabbitListener(queues = "${amqp.queue.state}")
@@ -24,4 +26,14 @@ public class StateEventHandler {
             throw new AmqpRejectAndDontRequeueException(e);
         }
     }
+
+    @RabbitListener(queues = "${amqp.queue.state.batch}")
+    void handleStateBatch(final StateBatchEvent event) {
+        logger.debug("Handling batch of {} state events", event.getGames().size());
+        try {
+            warmup.load(event);
+        } catch (final Exception e) {
+            throw new AmqpRejectAndDontRequeueException(e);
+        }
+    }
 }
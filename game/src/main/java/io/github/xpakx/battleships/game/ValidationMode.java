@@ -0,0 +1,6 @@
+package io.github.xpakx.battleships.game;
+
+public enum ValidationMode {
+    Engine,
+    Local;
+}
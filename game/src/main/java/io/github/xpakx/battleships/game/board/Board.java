@@ -0,0 +1,204 @@
+package io.github.xpakx.battleships.game.board;
+
+import io.github.xpakx.battleships.game.dto.CellChange;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+public class Board {
+    private final int height;
+    private final int width;
+    private final BitSet misses;
+    private final BitSet hits;
+    private final BitSet sunk;
+
+    private Board(int height, int width, BitSet misses, BitSet hits, BitSet sunk) {
+        this.height = height;
+        this.width = width;
+        this.misses = misses;
+        this.hits = hits;
+        this.sunk = sunk;
+    }
+
+    public static Board empty(int height, int width) {
+        var size = height * width;
+        return new Board(height, width, new BitSet(size), new BitSet(size), new BitSet(size));
+    }
+
+    public static Board of(String str) {
+        var height = 1;
+        var width = str.indexOf('|');
+        for (int i = 0; i < str.length(); i++) {
+            if (str.charAt(i) == '|') {
+                height++;
+            }
+        }
+        if (width < 0) {
+            width = str.length();
+        }
+
+        var board = empty(height, width);
+        var row = 0;
+        var column = 0;
+        for (int i = 0; i < str.length(); i++) {
+            var c = str.charAt(i);
+            if (c == '|') {
+                row++;
+                column = 0;
+                continue;
+            }
+            if (column < width) {
+                board.set(row, column, Field.of(c));
+            }
+            column++;
+        }
+        return board;
+    }
+
+    public static boolean isCanonical(String str) {
+        if (str == null || str.isEmpty()) {
+            return false;
+        }
+        var width = str.indexOf('|');
+        if (width < 0) {
+            width = str.length();
+        }
+        if (width == 0 || width > 255) {
+            return false;
+        }
+        var height = 1;
+        var column = 0;
+        for (int i = 0; i < str.length(); i++) {
+            var c = str.charAt(i);
+            if (c == '|') {
+                if (column != width) {
+                    return false;
+                }
+                height++;
+                column = 0;
+                continue;
+            }
+            if (c != '?' && c != 'o' && c != '.' && c != 'x') {
+                return false;
+            }
+            column++;
+        }
+        return column == width && height <= 255;
+    }
+
+    public Board copy() {
+        return new Board(height, width, (BitSet) misses.clone(), (BitSet) hits.clone(), (BitSet) sunk.clone());
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public boolean contains(int row, int column) {
+        return row >= 0 && row < height && column >= 0 && column < width;
+    }
+
+    public Field get(int row, int column) {
+        var index = index(row, column);
+        if (sunk.get(index)) {
+            return Field.Sunk;
+        }
+        if (hits.get(index)) {
+            return Field.Hit;
+        }
+        if (misses.get(index)) {
+            return Field.Miss;
+        }
+        return Field.Empty;
+    }
+
+    public boolean isEmpty(int row, int column) {
+        return get(row, column) == Field.Empty;
+    }
+
+    public void set(int row, int column, Field field) {
+        var index = index(row, column);
+        misses.set(index, field == Field.Miss);
+        hits.set(index, field == Field.Hit);
+        sunk.set(index, field == Field.Sunk);
+    }
+
+    public int count(Field field) {
+        return switch (field) {
+            case Miss -> misses.cardinality();
+            case Hit -> hits.cardinality();
+            case Sunk -> sunk.cardinality();
+            case Empty -> height * width - misses.cardinality() - hits.cardinality() - sunk.cardinality();
+        };
+    }
+
+    public List<CellChange> diff(Board other) {
+        var changes = new ArrayList<CellChange>();
+        for (int row = 0; row < height; row++) {
+            for (int column = 0; column < width; column++) {
+                var field = other.contains(row, column) ? other.get(row, column) : Field.Empty;
+                if (field != get(row, column)) {
+                    changes.add(new CellChange(row, column, field));
+                }
+            }
+        }
+        return changes;
+    }
+
+    public String[][] toSymbols() {
+        var result = new String[height][width];
+        for (int row = 0; row < height; row++) {
+            for (int column = 0; column < width; column++) {
+                result[row][column] = get(row, column).name();
+            }
+        }
+        return result;
+    }
+
+    public byte[] toBytes() {
+        var bytes = new byte[2 + (height * width + 3) / 4];
+        bytes[0] = (byte) height;
+        bytes[1] = (byte) width;
+        for (int index = 0; index < height * width; index++) {
+            var value = sunk.get(index) ? 3 : hits.get(index) ? 2 : misses.get(index) ? 1 : 0;
+            bytes[2 + index / 4] |= (byte) (value << ((index % 4) * 2));
+        }
+        return bytes;
+    }
+
+    public static Board fromBytes(byte[] bytes) {
+        var board = empty(bytes[0] & 0xFF, bytes[1] & 0xFF);
+        for (int index = 0; index < board.height * board.width; index++) {
+            var value = (bytes[2 + index / 4] >> ((index % 4) * 2)) & 3;
+            switch (value) {
+                case 1 -> board.misses.set(index);
+                case 2 -> board.hits.set(index);
+                case 3 -> board.sunk.set(index);
+            }
+        }
+        return board;
+    }
+
+    @Override
+    public String toString() {
+        var builder = new StringBuilder(height * (width + 1));
+        for (int row = 0; row < height; row++) {
+            if (row > 0) {
+                builder.append('|');
+            }
+            for (int column = 0; column < width; column++) {
+                builder.append(get(row, column).getSymbol());
+            }
+        }
+        return builder.toString();
+    }
+
+    private int index(int row, int column) {
+        return row * width + column;
+    }
+}
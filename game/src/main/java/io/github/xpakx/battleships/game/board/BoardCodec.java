@@ -0,0 +1,52 @@
+package io.github.xpakx.battleships.game.board;
+
+import java.nio.charset.StandardCharsets;
+
+public class BoardCodec {
+    private static final byte RAW = 0;
+    private static final byte PACKED = 1;
+
+    public static byte[] encode(String state) {
+        if (state == null) {
+            return null;
+        }
+        if (!Board.isCanonical(state)) {
+            var raw = state.getBytes(StandardCharsets.UTF_8);
+            var bytes = new byte[raw.length + 1];
+            bytes[0] = RAW;
+            System.arraycopy(raw, 0, bytes, 1, raw.length);
+            return bytes;
+        }
+        return encode(Board.of(state));
+    }
+
+    public static byte[] encode(Board board) {
+        var packed = board.toBytes();
+        var bytes = new byte[packed.length + 1];
+        bytes[0] = PACKED;
+        System.arraycopy(packed, 0, bytes, 1, packed.length);
+        return bytes;
+    }
+
+    public static String decode(byte[] bytes) {
+        if (bytes == null) {
+            return null;
+        }
+        if (bytes[0] == RAW) {
+            return new String(bytes, 1, bytes.length - 1, StandardCharsets.UTF_8);
+        }
+        return toBoard(bytes).toString();
+    }
+
+    public static Board toBoard(byte[] bytes) {
+        if (bytes == null) {
+            return null;
+        }
+        if (bytes[0] == RAW) {
+            return Board.of(decode(bytes));
+        }
+        var packed = new byte[bytes.length - 1];
+        System.arraycopy(bytes, 1, packed, 0, packed.length);
+        return Board.fromBytes(packed);
+    }
+}
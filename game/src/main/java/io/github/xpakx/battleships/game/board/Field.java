@@ -0,0 +1,31 @@
+package io.github.xpakx.battleships.game.board;
+
+public enum Field {
+    Empty('?'),
+    Miss('o'),
+    Hit('.'),
+    Sunk('x');
+
+    private final char symbol;
+
+    Field(char symbol) {
+        this.symbol = symbol;
+    }
+
+    public char getSymbol() {
+        return symbol;
+    }
+
+    public static Field of(char c) {
+        if (c == 'x' || c == 'X') {
+            return Sunk;
+        }
+        if (c == 'o' || c == 'O') {
+            return Miss;
+        }
+        if (c == '.') {
+            return Hit;
+        }
+        return Empty;
+    }
+}
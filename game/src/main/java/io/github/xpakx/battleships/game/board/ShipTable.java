@@ -0,0 +1,255 @@
+package io.github.xpakx.battleships.game.board;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.github.xpakx.battleships.game.dto.Ship;
+import io.github.xpakx.battleships.game.dto.ShipOrientation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+public class ShipTable {
+    private static final TypeReference<List<Ship>> shipsType = new TypeReference<>(){};
+    private static final ObjectReader shipsReader = new ObjectMapper().readerFor(shipsType);
+    private static final ObjectWriter shipsWriter = new ObjectMapper().writerFor(shipsType);
+    private static final int BYTES_PER_SHIP = 5;
+    private static final byte VERTICAL = 1;
+
+    private final int[] headX;
+    private final int[] headY;
+    private final int[] size;
+    private final boolean[] vertical;
+    private final int[] hits;
+    private String json;
+    private List<Integer> remaining;
+    private List<Integer> remainingView;
+
+    private ShipTable(int count) {
+        headX = new int[count];
+        headY = new int[count];
+        size = new int[count];
+        vertical = new boolean[count];
+        hits = new int[count];
+    }
+
+    public static ShipTable empty() {
+        return new ShipTable(0);
+    }
+
+    public static Optional<ShipTable> parse(String ships) {
+        if (ships == null) {
+            return Optional.empty();
+        }
+        try {
+            List<Ship> list = shipsReader.readValue(ships);
+            if (list == null) {
+                return Optional.empty();
+            }
+            return Optional.of(of(list));
+        } catch (Exception e) {
+            return Optional.empty();
+        }
+    }
+
+    public static ShipTable of(List<Ship> ships) {
+        var table = new ShipTable(ships.size());
+        for (int i = 0; i < ships.size(); i++) {
+            var ship = ships.get(i);
+            table.headX[i] = ship.getHeadX();
+            table.headY[i] = ship.getHeadY();
+            table.size[i] = ship.getSize();
+            table.vertical[i] = ship.getOrientation() == ShipOrientation.Vertical;
+            checkRange(table.headX[i]);
+            checkRange(table.headY[i]);
+            checkRange(table.size[i]);
+        }
+        return table;
+    }
+
+    private static void checkRange(int value) {
+        if (value < 0 || value > 255) {
+            throw new IllegalArgumentException("Ship coordinate out of range: " + value);
+        }
+    }
+
+    public static ShipTable fromBytes(byte[] bytes) {
+        if (bytes == null) {
+            return null;
+        }
+        var table = new ShipTable(bytes.length / BYTES_PER_SHIP);
+        for (int ship = 0, i = 0; ship < table.count(); ship++, i += BYTES_PER_SHIP) {
+            table.headX[ship] = bytes[i] & 0xFF;
+            table.headY[ship] = bytes[i + 1] & 0xFF;
+            table.size[ship] = bytes[i + 2] & 0xFF;
+            table.vertical[ship] = bytes[i + 3] == VERTICAL;
+            table.hits[ship] = bytes[i + 4] & 0xFF;
+        }
+        return table;
+    }
+
+    public byte[] toBytes() {
+        var bytes = new byte[size.length * BYTES_PER_SHIP];
+        for (int ship = 0, i = 0; ship < size.length; ship++, i += BYTES_PER_SHIP) {
+            bytes[i] = (byte) headX[ship];
+            bytes[i + 1] = (byte) headY[ship];
+            bytes[i + 2] = (byte) size[ship];
+            bytes[i + 3] = vertical[ship] ? VERTICAL : 0;
+            bytes[i + 4] = (byte) hits[ship];
+        }
+        return bytes;
+    }
+
+    public String toJson() {
+        if (json == null) {
+            json = writeJson();
+        }
+        return json;
+    }
+
+    private String writeJson() {
+        var ships = new ArrayList<Ship>(size.length);
+        for (int i = 0; i < size.length; i++) {
+            var ship = new Ship();
+            ship.setHeadX(headX[i]);
+            ship.setHeadY(headY[i]);
+            ship.setSize(size[i]);
+            ship.setOrientation(vertical[i] ? ShipOrientation.Vertical : ShipOrientation.Horizontal);
+            ships.add(ship);
+        }
+        try {
+            return shipsWriter.writeValueAsString(ships);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize ships", e);
+        }
+    }
+
+    public int count() {
+        return size.length;
+    }
+
+    public boolean isEmpty() {
+        return size.length == 0;
+    }
+
+    public int getHeadX(int ship) {
+        return headX[ship];
+    }
+
+    public int getHeadY(int ship) {
+        return headY[ship];
+    }
+
+    public int getSize(int ship) {
+        return size[ship];
+    }
+
+    public int getHits(int ship) {
+        return hits[ship];
+    }
+
+    public boolean isSunk(int ship) {
+        return hits[ship] >= size[ship];
+    }
+
+    public void recordHit(int ship) {
+        if (isSunk(ship)) {
+            return;
+        }
+        hits[ship]++;
+        if (isSunk(ship)) {
+            removeRemaining(ship);
+        }
+    }
+
+    public void sink(int ship) {
+        if (isSunk(ship)) {
+            return;
+        }
+        hits[ship] = size[ship];
+        removeRemaining(ship);
+    }
+
+    private void removeRemaining(int ship) {
+        if (remaining != null) {
+            remaining.remove(Integer.valueOf(size[ship]));
+        }
+    }
+
+    public List<Integer> remainingSizes() {
+        if (remaining == null) {
+            remaining = new ArrayList<>(size.length);
+            for (int ship = 0; ship < size.length; ship++) {
+                if (!isSunk(ship)) {
+                    remaining.add(size[ship]);
+                }
+            }
+            remainingView = Collections.unmodifiableList(remaining);
+        }
+        return remainingView;
+    }
+
+    public void countHits(Board board) {
+        remaining = null;
+        for (int ship = 0; ship < size.length; ship++) {
+            hits[ship] = 0;
+            for (int cell = 0; cell < size[ship]; cell++) {
+                var row = cellRow(ship, cell);
+                var column = cellColumn(ship, cell);
+                if (!board.contains(row, column)) {
+                    continue;
+                }
+                var field = board.get(row, column);
+                if (field == Field.Hit || field == Field.Sunk) {
+                    hits[ship]++;
+                }
+            }
+        }
+    }
+
+    public int cellRow(int ship, int cell) {
+        return vertical[ship] ? headX[ship] + cell : headX[ship];
+    }
+
+    public int cellColumn(int ship, int cell) {
+        return vertical[ship] ? headY[ship] : headY[ship] + cell;
+    }
+
+    public int shipAt(int row, int column) {
+        for (int ship = 0; ship < size.length; ship++) {
+            if (vertical[ship]) {
+                if (column == headY[ship] && row >= headX[ship] && row < headX[ship] + size[ship]) {
+                    return ship;
+                }
+            } else if (row == headX[ship] && column >= headY[ship] && column < headY[ship] + size[ship]) {
+                return ship;
+            }
+        }
+        return -1;
+    }
+
+    public boolean allCellsMatch(Board board, int ship, Field field) {
+        for (int cell = 0; cell < size[ship]; cell++) {
+            var row = cellRow(ship, cell);
+            var column = cellColumn(ship, cell);
+            if (!board.contains(row, column) || board.get(row, column) != field) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public void mark(Board board, int ship, Field field) {
+        for (int cell = 0; cell < size[ship]; cell++) {
+            var row = cellRow(ship, cell);
+            var column = cellColumn(ship, cell);
+            if (board.contains(row, column)) {
+                board.set(row, column, field);
+            }
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package io.github.xpakx.battleships.game.dto;
+
+import io.github.xpakx.battleships.game.board.Field;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class CellChange {
+    private int x;
+    private int y;
+    private Field field;
+}
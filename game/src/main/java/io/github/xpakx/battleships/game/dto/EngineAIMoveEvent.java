@@ -9,4 +9,5 @@ public class EngineAIMoveEvent {
     Long gameId;
     Integer row;
     Integer column;
+    String correlationId;
 }
@@ -13,4 +13,5 @@ public class EngineMoveEvent {
     boolean finished;
     MoveResult result;
     String newState;
+    String correlationId;
 }
@@ -10,4 +10,5 @@ public class EnginePlacementEvent {
     private String ships;
     private boolean firstUser;
     private boolean legal;
+    private String correlationId;
 }
@@ -5,9 +5,6 @@ import io.github.xpakx.battleships.game.GameState;
 import lombok.Getter;
 import lombok.Setter;
 
-import java.util.Arrays;
-import java.util.List;
-
 @Getter
 @Setter
 public class GameMessage {
@@ -22,6 +19,7 @@ public class GameMessage {
     // private Integer lastMoveY;
     private String currentPlayer;
     private boolean gameStarted;
+    private long sequence;
 
     @JsonInclude(JsonInclude.Include.NON_NULL)
     private String error;
@@ -31,41 +29,11 @@ public class GameMessage {
         msg.setUsername1(game.getUsername1());
         msg.setUsername2(game.getUsername2());
         msg.setAi(game.isUser2AI());
-        msg.setState1(stringToBoard(game.getUserCurrentState()));
-        msg.setState2(stringToBoard(game.getOpponentCurrentState()));
+        msg.setState1(game.getUserBoard().toSymbols());
+        msg.setState2(game.getOpponentBoard().toSymbols());
         msg.setCurrentPlayer(game.isFirstUserTurn() ? game.getUsername1() : game.getUsername2());
         msg.setGameStarted(game.isGameStarted());
+        msg.setSequence(game.getSequence());
         return msg;
     }
-
-    private static String[][] stringToBoard(String str) {
-        List<List<String>> fields = Arrays.stream(str.split("\\|"))
-                .map(
-                        (row) -> row
-                                .chars()
-                                .mapToObj((c) -> charToSymbol((char) c))
-                                .toList()
-                ).toList();
-        String[][] board = new String[fields.size()][fields.getFirst().size()];
-        for (int row=0; row< board.length; row++) {
-            for (int column=0; column<board[row].length; column++) {
-                board[row][column] = fields.get(row).get(column);
-            }
-        }
-        return board;
-    }
-
-    private static String charToSymbol(char c) {
-        if(c == 'x' || c == 'X') {
-            return "Sunk";
-        }
-        if(c == 'o' || c == 'O') {
-            return "Miss";
-        }
-        if(c == '.') {
-            return "Hit";
-        }
-        return "Empty";
-    }
-
 }
@@ -6,6 +6,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.util.List;
+
 @Getter
 @Setter
 @AllArgsConstructor
@@ -26,6 +28,10 @@ public class MoveMessage {
     @JsonInclude(JsonInclude.Include.NON_NULL)
     private String winner;
 
+    private long sequence;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<CellChange> changes;
+
     public static MoveMessage of(int x, int y, String username, MoveResult result) {
         return new MoveMessage(
                 username,
@@ -36,6 +42,8 @@ public class MoveMessage {
                 null,
                 false,
                 false,
+                null,
+                0,
                 null
         );
     }
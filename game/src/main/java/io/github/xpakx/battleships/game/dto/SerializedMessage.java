@@ -0,0 +1,11 @@
+package io.github.xpakx.battleships.game.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class SerializedMessage {
+    private final byte[] payload;
+    private final Object source;
+}
@@ -0,0 +1,7 @@
+package io.github.xpakx.battleships.game.error;
+
+public class GameLoadingException extends RuntimeException {
+    public GameLoadingException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package io.github.xpakx.battleships.game.error;
+
+public class LeaseLostException extends RuntimeException {
+    public LeaseLostException(String message) {
+        super(message);
+    }
+}
@@ -2,15 +2,30 @@ package io.github.xpakx.battleships.settings;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import io.github.xpakx.battleships.cluster.CommandForwarder;
+import io.github.xpakx.battleships.cluster.NodeRegistry;
 import org.springframework.amqp.core.*;
+import org.springframework.amqp.rabbit.AsyncRabbitTemplate;
 import org.springframework.amqp.rabbit.annotation.RabbitListenerConfigurer;
+import org.springframework.amqp.rabbit.batch.SimpleBatchingStrategy;
+import org.springframework.amqp.rabbit.config.ContainerCustomizer;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.core.BatchingRabbitTemplate;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.amqp.RabbitTemplateConfigurer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.messaging.converter.MappingJackson2MessageConverter;
 import org.springframework.messaging.handler.annotation.support.DefaultMessageHandlerMethodFactory;
 import org.springframework.messaging.handler.annotation.support.MessageHandlerMethodFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.util.ArrayList;
 
 @Configuration
 public class AMQPConfig {
@@ -58,44 +73,95 @@ public class AMQPConfig {
     }
 
     @Bean
-    public TopicExchange engineTopicExchange(@Value("${amqp.exchange.engine}") final String exchangeName) {
-        return ExchangeBuilder.topicExchange(exchangeName).durable(true).build();
+    @Primary
+    public RabbitTemplate rabbitTemplate(
+            final RabbitTemplateConfigurer configurer,
+            final ConnectionFactory connectionFactory
+    ) {
+        var template = new RabbitTemplate();
+        configurer.configure(template, connectionFactory);
+        template.setObservationEnabled(true);
+        return template;
     }
 
     @Bean
-    public Queue aiMovesQueue(@Value("${amqp.queue.ai.moves}") final String queueName) {
-        return QueueBuilder.durable(queueName).build();
+    public BatchingRabbitTemplate updatesRabbitTemplate(
+            final RabbitTemplateConfigurer configurer,
+            final ConnectionFactory connectionFactory,
+            @Value("${amqp.updates.batch-size}") final int batchSize,
+            @Value("${amqp.updates.buffer-limit}") final int bufferLimit,
+            @Value("${amqp.updates.batch-timeout-ms}") final long timeout
+    ) {
+        var scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setThreadNamePrefix("updates-batch-");
+        scheduler.setDaemon(true);
+        scheduler.initialize();
+        var strategy = new SimpleBatchingStrategy(batchSize, bufferLimit, timeout);
+        var template = new BatchingRabbitTemplate(connectionFactory, strategy, scheduler);
+        configurer.configure(template, connectionFactory);
+        template.setObservationEnabled(true);
+        return template;
     }
 
     @Bean
-    public Binding aiMovesBinding(final Queue aiMovesQueue, final TopicExchange engineTopicExchange) {
-        return BindingBuilder.bind(aiMovesQueue)
-                .to(engineTopicExchange)
-                .with("ai.move");
+    public ContainerCustomizer<SimpleMessageListenerContainer> observationContainerCustomizer() {
+        return (container) -> container.setObservationEnabled(true);
     }
 
     @Bean
-    public Queue validationMovesQueue(@Value("${amqp.queue.validation.moves}") final String queueName) {
-        return QueueBuilder.durable(queueName).build();
+    public TopicExchange engineTopicExchange(@Value("${amqp.exchange.engine}") final String exchangeName) {
+        return ExchangeBuilder.topicExchange(exchangeName).durable(true).build();
     }
 
     @Bean
-    public Binding validationMovesBinding(final Queue validationMovesQueue, final TopicExchange engineTopicExchange) {
-        return BindingBuilder.bind(validationMovesQueue)
-                .to(engineTopicExchange)
-                .with("validation.move");
+    public Declarables aiMovesQueues(
+            @Value("${amqp.queue.ai.moves}") final String queueName,
+            final TopicExchange engineTopicExchange,
+            final EnginePartitions partitions
+    ) {
+        return engineQueues(queueName, "ai.move", engineTopicExchange, partitions);
     }
 
     @Bean
-    public Queue placementQueue(@Value("${amqp.queue.placement}") final String queueName) {
-        return QueueBuilder.durable(queueName).build();
+    public Declarables validationMovesQueues(
+            @Value("${amqp.queue.validation.moves}") final String queueName,
+            final TopicExchange engineTopicExchange,
+            final EnginePartitions partitions
+    ) {
+        return engineQueues(queueName, "validation.move", engineTopicExchange, partitions);
     }
 
     @Bean
-    public Binding placementBinding(final Queue placementQueue, final TopicExchange engineTopicExchange) {
-        return BindingBuilder.bind(placementQueue)
-                .to(engineTopicExchange)
-                .with("placement");
+    public Declarables placementQueues(
+            @Value("${amqp.queue.placement}") final String queueName,
+            final TopicExchange engineTopicExchange,
+            final EnginePartitions partitions
+    ) {
+        return engineQueues(queueName, "placement", engineTopicExchange, partitions);
+    }
+
+    private Declarables engineQueues(
+            final String queueName,
+            final String routingKey,
+            final TopicExchange engineTopicExchange,
+            final EnginePartitions partitions
+    ) {
+        var declarables = new ArrayList<Declarable>();
+        if (!partitions.isPartitioned()) {
+            var queue = QueueBuilder.durable(queueName).build();
+            declarables.add(queue);
+            declarables.add(BindingBuilder.bind(queue).to(engineTopicExchange).with(routingKey + ".#"));
+            return new Declarables(declarables);
+        }
+        var hashExchange = new CustomExchange(queueName + ".hash", "x-consistent-hash", true, false);
+        declarables.add(hashExchange);
+        declarables.add(BindingBuilder.bind(hashExchange).to(engineTopicExchange).with(routingKey + ".#"));
+        for (var name : partitions.getQueueNames(queueName)) {
+            var queue = QueueBuilder.durable(name).build();
+            declarables.add(queue);
+            declarables.add(BindingBuilder.bind(queue).to(hashExchange).with("1").noargs());
+        }
+        return new Declarables(declarables);
     }
 
     @Bean
@@ -131,4 +197,70 @@ public class AMQPConfig {
                 .to(stateTopicExchange)
                 .with("state");
     }
+
+    @Bean
+    public Queue stateBatchQueue(@Value("${amqp.queue.state.batch}") final String queueName) {
+        return QueueBuilder.durable(queueName).build();
+    }
+
+    @Bean
+    public Binding stateBatchBinding(final Queue stateBatchQueue, final TopicExchange stateTopicExchange) {
+        return BindingBuilder.bind(stateBatchQueue)
+                .to(stateTopicExchange)
+                .with("state.batch");
+    }
+
+    @Bean
+    public DirectExchange nodesExchange(@Value("${amqp.exchange.nodes}") final String exchangeName) {
+        return ExchangeBuilder.directExchange(exchangeName).durable(true).build();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "game.cluster.enabled", havingValue = "true")
+    public Queue nodeQueue(@Value("${amqp.queue.nodes}") final String queueName, final NodeRegistry nodes) {
+        return QueueBuilder.nonDurable(queueName + "." + nodes.getNodeId()).autoDelete().build();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "game.cluster.enabled", havingValue = "true")
+    public Queue nodeUsersQueue(@Value("${amqp.queue.nodes}") final String queueName, final NodeRegistry nodes) {
+        return QueueBuilder.nonDurable(queueName + "." + nodes.getNodeId() + ".users").autoDelete().build();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "game.cluster.enabled", havingValue = "true")
+    public Declarables nodeBindings(
+            final Queue nodeQueue,
+            final Queue nodeUsersQueue,
+            final DirectExchange nodesExchange,
+            final NodeRegistry nodes
+    ) {
+        return new Declarables(
+                BindingBuilder.bind(nodeQueue).to(nodesExchange).with(CommandForwarder.routingKey(nodes.getNodeId())),
+                BindingBuilder.bind(nodeUsersQueue).to(nodesExchange).with(CommandForwarder.USERS_ROUTING_KEY)
+        );
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "game.cluster.enabled", havingValue = "true")
+    public AsyncRabbitTemplate asyncRabbitTemplate(
+            final RabbitTemplate rabbitTemplate,
+            @Value("${game.cluster.forward-timeout-ms}") final long timeout
+    ) {
+        var template = new AsyncRabbitTemplate(rabbitTemplate);
+        template.setReceiveTimeout(timeout);
+        return template;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "game.relay.type", havingValue = "Rabbit")
+    public TopicExchange relayExchange(@Value("${amqp.exchange.relay}") final String exchangeName) {
+        return ExchangeBuilder.topicExchange(exchangeName).durable(true).build();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "game.relay.type", havingValue = "Rabbit")
+    public Queue relayQueue(@Value("${amqp.queue.relay}") final String queueName, final NodeRegistry nodes) {
+        return QueueBuilder.nonDurable(queueName + "." + nodes.getNodeId()).autoDelete().build();
+    }
 }
@@ -0,0 +1,130 @@
+package io.github.xpakx.battleships.settings;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class BinaryProtocol {
+    public static final String ENCODING_HEADER = "encoding";
+    public static final String CBOR = "cbor";
+    public static final MimeType APPLICATION_CBOR = new MimeType("application", "cbor");
+    public static final String SOURCE_HEADER = "sourcePayload";
+
+    private final ObjectMapper jsonMapper = new ObjectMapper();
+    private final CBORMapper cborMapper = new CBORMapper();
+    private final Set<String> binarySessions = ConcurrentHashMap.newKeySet();
+    private final Cache<Object, byte[]> encoded = Caffeine.newBuilder()
+            .weakKeys()
+            .maximumSize(1024)
+            .build();
+    Logger logger = LoggerFactory.getLogger(BinaryProtocol.class);
+
+    public void register(String sessionId, String encoding) {
+        if (sessionId != null && CBOR.equalsIgnoreCase(encoding)) {
+            binarySessions.add(sessionId);
+        }
+    }
+
+    public void unregister(String sessionId) {
+        if (sessionId != null) {
+            binarySessions.remove(sessionId);
+        }
+    }
+
+    public boolean isBinary(String sessionId) {
+        return sessionId != null && binarySessions.contains(sessionId);
+    }
+
+    public MappingJackson2MessageConverter inboundConverter() {
+        var converter = new MappingJackson2MessageConverter(APPLICATION_CBOR);
+        converter.setObjectMapper(cborMapper);
+        converter.setStrictContentTypeMatch(true);
+        return converter;
+    }
+
+    public MappingJackson2MessageConverter outboundConverter() {
+        return new MappingJackson2MessageConverter() {
+            @Override
+            protected boolean supports(Class<?> clazz) {
+                return clazz != String.class && clazz != byte[].class;
+            }
+
+            @Override
+            protected boolean canConvertFrom(Message<?> message, Class<?> targetClass) {
+                return false;
+            }
+
+            @Override
+            protected Object convertToInternal(Object payload, MessageHeaders headers, Object conversionHint) {
+                keepSource(headers, payload);
+                return super.convertToInternal(payload, headers, conversionHint);
+            }
+        };
+    }
+
+    static void keepSource(MessageHeaders headers, Object source) {
+        var accessor = headers != null ? MessageHeaderAccessor.getAccessor(headers, MessageHeaderAccessor.class) : null;
+        if (source != null && accessor != null && accessor.isMutable()) {
+            accessor.setHeader(SOURCE_HEADER, source);
+        }
+    }
+
+    public Message<?> encode(Message<?> message) {
+        if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) != SimpMessageType.MESSAGE) {
+            return message;
+        }
+        if (!isBinary(SimpMessageHeaderAccessor.getSessionId(message.getHeaders()))) {
+            return message;
+        }
+        var accessor = MessageHeaderAccessor.getMutableAccessor(message);
+        var contentType = accessor.getContentType();
+        if (!(message.getPayload() instanceof byte[] payload) || contentType == null
+                || !MimeTypeUtils.APPLICATION_JSON.isCompatibleWith(contentType)) {
+            return message;
+        }
+        var source = accessor.getHeader(SOURCE_HEADER);
+        accessor.removeHeader(SOURCE_HEADER);
+        try {
+            var cbor = source != null ? encoded.get(source, this::toCbor) : encoded.get(payload, this::jsonToCbor);
+            accessor.setContentType(APPLICATION_CBOR);
+            return MessageBuilder.createMessage(cbor, accessor.getMessageHeaders());
+        } catch (Exception e) {
+            logger.warn("Cannot encode message as CBOR, sending JSON: {}", e.getMessage());
+            return MessageBuilder.createMessage(payload, accessor.getMessageHeaders());
+        }
+    }
+
+    private byte[] toCbor(Object payload) {
+        try {
+            return cborMapper.writeValueAsBytes(payload);
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    private byte[] jsonToCbor(Object json) {
+        try {
+            return cborMapper.writeValueAsBytes(jsonMapper.readTree((byte[]) json));
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package io.github.xpakx.battleships.settings;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+@Component
+public class EnginePartitions {
+    private final int count;
+
+    public EnginePartitions(@Value("${amqp.engine.partitions}") int count) {
+        this.count = Math.max(count, 1);
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public boolean isPartitioned() {
+        return count > 1;
+    }
+
+    public List<String> getQueueNames(String queueName) {
+        if (!isPartitioned()) {
+            return List.of(queueName);
+        }
+        return IntStream.range(0, count)
+                .mapToObj((partition) -> queueName + "." + partition)
+                .toList();
+    }
+}
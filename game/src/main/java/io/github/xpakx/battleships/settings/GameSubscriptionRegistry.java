@@ -0,0 +1,112 @@
+package io.github.xpakx.battleships.settings;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.broker.AbstractSubscriptionRegistry;
+import org.springframework.messaging.simp.broker.DefaultSubscriptionRegistry;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+public class GameSubscriptionRegistry extends AbstractSubscriptionRegistry {
+    private final Map<String, Map<String, Map<String, Boolean>>> destinations = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, String>> sessions = new ConcurrentHashMap<>();
+    private final DefaultSubscriptionRegistry patterns = new DefaultSubscriptionRegistry();
+    private final AntPathMatcher matcher = new AntPathMatcher();
+    private final AtomicInteger patternSubscriptions = new AtomicInteger();
+    private volatile BiConsumer<String, Boolean> interestListener = (destination, interested) -> {};
+
+    public void setInterestListener(BiConsumer<String, Boolean> interestListener) {
+        this.interestListener = interestListener;
+    }
+
+    @Override
+    protected void addSubscriptionInternal(String sessionId, String subscriptionId, String destination, Message<?> message) {
+        if (matcher.isPattern(destination)) {
+            patterns.registerSubscription(message);
+            patternSubscriptions.incrementAndGet();
+            sessions.computeIfAbsent(sessionId, (id) -> new ConcurrentHashMap<>()).put(subscriptionId, "");
+            return;
+        }
+        destinations.compute(destination, (d, subscribers) -> {
+            if (subscribers == null) {
+                subscribers = new ConcurrentHashMap<>();
+                interestListener.accept(d, true);
+            }
+            subscribers
+                    .computeIfAbsent(sessionId, (id) -> new ConcurrentHashMap<>())
+                    .put(subscriptionId, true);
+            return subscribers;
+        });
+        sessions.computeIfAbsent(sessionId, (id) -> new ConcurrentHashMap<>()).put(subscriptionId, destination);
+    }
+
+    @Override
+    protected void removeSubscriptionInternal(String sessionId, String subscriptionId, Message<?> message) {
+        var subscriptions = sessions.get(sessionId);
+        if (subscriptions == null) {
+            return;
+        }
+        var destination = subscriptions.remove(subscriptionId);
+        if (destination == null) {
+            return;
+        }
+        if (destination.isEmpty()) {
+            patterns.unregisterSubscription(message);
+            patternSubscriptions.decrementAndGet();
+            return;
+        }
+        removeFromDestination(destination, sessionId, subscriptionId);
+    }
+
+    @Override
+    public void unregisterAllSubscriptions(String sessionId) {
+        var subscriptions = sessions.remove(sessionId);
+        if (subscriptions == null) {
+            return;
+        }
+        for (var entry : subscriptions.entrySet()) {
+            if (entry.getValue().isEmpty()) {
+                patternSubscriptions.decrementAndGet();
+                continue;
+            }
+            removeFromDestination(entry.getValue(), sessionId, entry.getKey());
+        }
+        patterns.unregisterAllSubscriptions(sessionId);
+    }
+
+    private void removeFromDestination(String destination, String sessionId, String subscriptionId) {
+        destinations.computeIfPresent(destination, (d, subscribers) -> {
+            subscribers.computeIfPresent(sessionId, (id, ids) -> {
+                ids.remove(subscriptionId);
+                return ids.isEmpty() ? null : ids;
+            });
+            if (subscribers.isEmpty()) {
+                interestListener.accept(d, false);
+                return null;
+            }
+            return subscribers;
+        });
+    }
+
+    @Override
+    protected MultiValueMap<String, String> findSubscriptionsInternal(String destination, Message<?> message) {
+        var result = new LinkedMultiValueMap<String, String>();
+        var subscribers = destinations.get(destination);
+        if (subscribers != null) {
+            subscribers.forEach((sessionId, ids) -> result.addAll(sessionId, ids.keySet().stream().toList()));
+        }
+        if (patternSubscriptions.get() > 0) {
+            patterns.findSubscriptions(message).forEach(result::addAll);
+        }
+        return result;
+    }
+
+    public int getDestinationCount() {
+        return destinations.size();
+    }
+}
@@ -0,0 +1,35 @@
+package io.github.xpakx.battleships.settings;
+
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.SubscribableChannel;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.messaging.SubProtocolWebSocketHandler;
+
+class MeteredWebSocketHandler extends SubProtocolWebSocketHandler {
+    private final SessionBuffers buffers;
+
+    MeteredWebSocketHandler(MessageChannel clientInboundChannel, SubscribableChannel clientOutboundChannel, SessionBuffers buffers) {
+        super(clientInboundChannel, clientOutboundChannel);
+        this.buffers = buffers;
+    }
+
+    @Override
+    protected WebSocketSession decorateSession(WebSocketSession session) {
+        var decorated = super.decorateSession(session);
+        if (decorated instanceof ConcurrentWebSocketSessionDecorator concurrent) {
+            buffers.add(concurrent);
+        }
+        return decorated;
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+        try {
+            super.afterConnectionClosed(session, closeStatus);
+        } finally {
+            buffers.remove(session.getId());
+        }
+    }
+}
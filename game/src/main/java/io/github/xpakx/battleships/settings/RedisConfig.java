@@ -0,0 +1,50 @@
+package io.github.xpakx.battleships.settings;
+
+import io.github.xpakx.battleships.game.GameCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.List;
+
+@Configuration
+public class RedisConfig {
+    Logger logger = LoggerFactory.getLogger(RedisConfig.class);
+
+    @Bean
+    public RedisMessageListenerContainer gameCacheListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            GameCache gameCache,
+            @Value("${game.cache.keyspace-events}") String keyspaceEvents
+    ) {
+        configureKeyspaceEvents(connectionFactory, keyspaceEvents);
+        var container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                gameCache,
+                List.of(
+                        new ChannelTopic(gameCache.getChannel()),
+                        new PatternTopic("__keyevent@*__:del"),
+                        new PatternTopic("__keyevent@*__:expired")
+                )
+        );
+        return container;
+    }
+
+    private void configureKeyspaceEvents(RedisConnectionFactory connectionFactory, String keyspaceEvents) {
+        if (keyspaceEvents == null || keyspaceEvents.isBlank()) {
+            return;
+        }
+        try (var connection = connectionFactory.getConnection()) {
+            connection.serverCommands().setConfig("notify-keyspace-events", keyspaceEvents);
+        } catch (Exception e) {
+            logger.warn("Cannot enable keyspace notifications, relying on invalidation channel only: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package io.github.xpakx.battleships.settings;
+
+import io.github.xpakx.battleships.game.dto.SerializedMessage;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.converter.AbstractMessageConverter;
+import org.springframework.util.MimeTypeUtils;
+
+public class SerializedMessageConverter extends AbstractMessageConverter {
+
+    public SerializedMessageConverter() {
+        super(MimeTypeUtils.APPLICATION_JSON);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return SerializedMessage.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected boolean canConvertFrom(Message<?> message, Class<?> targetClass) {
+        return false;
+    }
+
+    @Override
+    protected Object convertToInternal(Object payload, MessageHeaders headers, Object conversionHint) {
+        var message = (SerializedMessage) payload;
+        BinaryProtocol.keepSource(headers, message.getSource());
+        return message.getPayload();
+    }
+}
@@ -0,0 +1,43 @@
+package io.github.xpakx.battleships.settings;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class SessionBuffers {
+    private final Map<String, ConcurrentWebSocketSessionDecorator> sessions = new ConcurrentHashMap<>();
+
+    public SessionBuffers(MeterRegistry registry) {
+        Gauge.builder("websocket.outbound.buffered", this, SessionBuffers::getBuffered)
+                .description("Bytes waiting in all session send buffers")
+                .baseUnit("bytes")
+                .register(registry);
+        Gauge.builder("websocket.outbound.buffered.max", this, SessionBuffers::getMaxBuffered)
+                .description("Bytes waiting in the fullest session send buffer")
+                .baseUnit("bytes")
+                .register(registry);
+        Gauge.builder("websocket.sessions", sessions, Map::size)
+                .register(registry);
+    }
+
+    public void add(ConcurrentWebSocketSessionDecorator session) {
+        sessions.put(session.getId(), session);
+    }
+
+    public void remove(String sessionId) {
+        sessions.remove(sessionId);
+    }
+
+    public long getBuffered() {
+        return sessions.values().stream().mapToLong(ConcurrentWebSocketSessionDecorator::getBufferSize).sum();
+    }
+
+    public int getMaxBuffered() {
+        return sessions.values().stream().mapToInt(ConcurrentWebSocketSessionDecorator::getBufferSize).max().orElse(0);
+    }
+}
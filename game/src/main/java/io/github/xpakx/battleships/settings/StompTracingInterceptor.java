@@ -0,0 +1,70 @@
+package io.github.xpakx.battleships.settings;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.transport.Kind;
+import io.micrometer.observation.transport.ReceiverContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class StompTracingInterceptor implements ExecutorChannelInterceptor {
+    private final ObservationRegistry registry;
+
+    @Override
+    public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+        var accessor = getSendAccessor(message);
+        if (accessor == null) {
+            return message;
+        }
+        var context = new ReceiverContext<StompHeaderAccessor>(StompHeaderAccessor::getFirstNativeHeader, Kind.CONSUMER);
+        context.setCarrier(accessor);
+        Observation.createNotStarted("stomp.inbound", () -> context, registry)
+                .contextualName("stomp " + accessor.getDestination())
+                .lowCardinalityKeyValue("destination", destinationPrefix(accessor.getDestination()))
+                .start()
+                .openScope();
+        return message;
+    }
+
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+        if (getSendAccessor(message) == null) {
+            return;
+        }
+        var scope = registry.getCurrentObservationScope();
+        if (scope == null) {
+            return;
+        }
+        var observation = scope.getCurrentObservation();
+        scope.close();
+        if (ex != null) {
+            observation.error(ex);
+        }
+        observation.stop();
+    }
+
+    private StompHeaderAccessor getSendAccessor(Message<?> message) {
+        var accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || !StompCommand.SEND.equals(accessor.getCommand())) {
+            return null;
+        }
+        return accessor;
+    }
+
+    private String destinationPrefix(String destination) {
+        if (destination == null) {
+            return "none";
+        }
+        var end = destination.lastIndexOf('/');
+        return end > 0 ? destination.substring(0, end) : destination;
+    }
+}
@@ -1,12 +1,21 @@
 package io.github.xpakx.battleships.settings;
 
+import io.github.xpakx.battleships.cluster.TopicRelay;
 import io.github.xpakx.battleships.security.JwtUtils;
 import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.SubscribableChannel;
+import org.springframework.messaging.converter.MessageConverter;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.messaging.simp.stomp.StompCommand;
@@ -17,6 +26,8 @@ import org.springframework.util.MultiValueMap;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+import org.springframework.web.socket.messaging.SubProtocolWebSocketHandler;
 
 import java.util.List;
 import java.util.Map;
@@ -26,12 +37,73 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     private final JwtUtils jwt;
+    private final BinaryProtocol binaryProtocol;
+    private final StompTracingInterceptor tracingInterceptor;
+    private final TopicRelay topicRelay;
+
+    @Value("${game.broker.outbound-threads}")
+    private int outboundThreads;
+    @Value("${game.broker.send-buffer-size}")
+    private int sendBufferSize;
+    @Value("${game.broker.send-time-ms}")
+    private int sendTimeLimit;
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
         config
                 .setApplicationDestinationPrefixes("/app")
-                .enableSimpleBroker("/topic");
+                .setPreservePublishOrder(true)
+                .enableSimpleBroker("/topic", "/queue");
+        config.configureBrokerChannel().interceptors(topicRelay);
+    }
+
+    @Bean
+    public static BeanPostProcessor subscriptionRegistryPostProcessor(ObjectProvider<TopicRelay> topicRelay) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof SimpleBrokerMessageHandler handler) {
+                    var registry = new GameSubscriptionRegistry();
+                    registry.setInterestListener((destination, interested) -> topicRelay.getObject().interest(destination, interested));
+                    handler.setSubscriptionRegistry(registry);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public static BeanPostProcessor sessionBuffersPostProcessor(BeanFactory beanFactory) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean.getClass() == SubProtocolWebSocketHandler.class) {
+                    var handler = new MeteredWebSocketHandler(
+                            beanFactory.getBean("clientInboundChannel", MessageChannel.class),
+                            beanFactory.getBean("clientOutboundChannel", SubscribableChannel.class),
+                            beanFactory.getBean(SessionBuffers.class)
+                    );
+                    handler.setPhase(((SubProtocolWebSocketHandler) bean).getPhase());
+                    return handler;
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration
+                .setSendBufferSizeLimit(sendBufferSize)
+                .setSendTimeLimit(sendTimeLimit);
+    }
+
+    @Override
+    public boolean configureMessageConverters(List<MessageConverter> messageConverters) {
+        messageConverters.add(new SerializedMessageConverter());
+        messageConverters.add(binaryProtocol.outboundConverter());
+        messageConverters.add(binaryProtocol.inboundConverter());
+        return true;
     }
 
     @Override
@@ -40,6 +112,9 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
                 .addEndpoint("/play")
                 .setAllowedOriginPatterns("*")
                 .withSockJS();
+        registry
+                .addEndpoint("/play/native")
+                .setAllowedOriginPatterns("*");
     }
 
     @Override
@@ -49,7 +124,14 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
             public Message<?> preSend(Message<?> message, MessageChannel channel) {
                 StompHeaderAccessor accessor =
                         MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+                if (accessor != null && StompCommand.DISCONNECT.equals(accessor.getCommand())) {
+                    binaryProtocol.unregister(accessor.getSessionId());
+                }
                 if (accessor != null && StompCommand.CONNECT.equals(accessor.getCommand())) {
+                    binaryProtocol.register(
+                            accessor.getSessionId(),
+                            accessor.getFirstNativeHeader(BinaryProtocol.ENCODING_HEADER)
+                    );
                     MessageHeaders headers = message.getHeaders();
                     MultiValueMap<String, String> multiValueMap = headers.get(
                             StompHeaderAccessor.NATIVE_HEADERS,MultiValueMap.class);
@@ -72,6 +154,19 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
                 }
                 return message;
             }
+        }, tracingInterceptor);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor()
+                .corePoolSize(outboundThreads)
+                .maxPoolSize(outboundThreads);
+        registration.interceptors(new ChannelInterceptor() {
+            @Override
+            public Message<?> preSend(Message<?> message, MessageChannel channel) {
+                return binaryProtocol.encode(message);
+            }
         });
     }
 }
@@ -0,0 +1,11 @@
+-- KEYS[1] lease, KEYS[2] fencing counter, ARGV[1] node id, ARGV[2] lease (ms)
+local current = redis.call('GET', KEYS[1])
+if current then
+    if string.sub(current, 1, #ARGV[1] + 1) == ARGV[1] .. ':' then
+        redis.call('PEXPIRE', KEYS[1], ARGV[2])
+    end
+    return current
+end
+local lease = ARGV[1] .. ':' .. redis.call('INCR', KEYS[2])
+redis.call('SET', KEYS[1], lease, 'PX', ARGV[2])
+return lease
@@ -0,0 +1,31 @@
+-- KEYS[1] game hash, KEYS[2] claim key, ARGV[1] mover is first user (0/1), ARGV[2] claim duration (ms), ARGV[3] ttl (s)
+local state = redis.call('HGET', KEYS[1], 's')
+if not state or redis.call('HEXISTS', KEYS[1], 'i') == 0 then
+    return {0}
+end
+
+local flags = string.byte(state, 1)
+if flags % 2 == 1 then
+    return {2}
+end
+if redis.call('HSTRLEN', KEYS[1], 's1') == 0 or redis.call('HSTRLEN', KEYS[1], 's2') == 0 then
+    return {1}
+end
+
+local firstUserTurn = math.floor(flags / 16) % 2 == 1
+local board = 'b1'
+local ships = 's1'
+if firstUserTurn then
+    board = 'b2'
+    ships = 's2'
+end
+if firstUserTurn ~= (ARGV[1] == '1') then
+    return {3}
+end
+
+if redis.call('EXISTS', KEYS[2]) == 1 then
+    return {4}
+end
+redis.call('SET', KEYS[2], '1', 'PX', ARGV[2])
+redis.call('EXPIRE', KEYS[1], ARGV[3])
+return {5, state, redis.call('HGET', KEYS[1], board), redis.call('HGET', KEYS[1], ships)}
@@ -0,0 +1,17 @@
+-- KEYS[1] game hash, KEYS[2] claim key, ARGV[1] fencing token, ARGV[2] ttl (s), ARGV[3] release claim (0/1), ARGV[4..] field/value pairs
+local token = tonumber(ARGV[1])
+local current = tonumber(redis.call('HGET', KEYS[1], 'f') or '0')
+if token < current then
+    return 0
+end
+if #ARGV > 3 then
+    redis.call('HSET', KEYS[1], unpack(ARGV, 4))
+end
+if token > current then
+    redis.call('HSET', KEYS[1], 'f', ARGV[1])
+end
+if ARGV[3] == '1' then
+    redis.call('DEL', KEYS[2])
+end
+redis.call('EXPIRE', KEYS[1], ARGV[2])
+return 1
@@ -0,0 +1,8 @@
+-- KEYS[1] game hash, ARGV[1] ttl (s), ARGV[2] fencing token (0 if not owned), ARGV[3..] field/value pairs
+if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end
+redis.call('HSET', KEYS[1], unpack(ARGV, 3))
+if tonumber(ARGV[2]) > 0 then
+    redis.call('HSET', KEYS[1], 'f', ARGV[2])
+end
+redis.call('EXPIRE', KEYS[1], ARGV[1])
+return 1
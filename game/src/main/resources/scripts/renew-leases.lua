@@ -0,0 +1,13 @@
+-- KEYS leases, ARGV[1] node id, ARGV[2] lease (ms)
+local prefix = ARGV[1] .. ':'
+local renewed = {}
+for i, key in ipairs(KEYS) do
+    local current = redis.call('GET', key)
+    if current and string.sub(current, 1, #prefix) == prefix then
+        redis.call('PEXPIRE', key, ARGV[2])
+        renewed[i] = 1
+    else
+        renewed[i] = 0
+    end
+end
+return renewed
@@ -65,6 +65,7 @@ class StatePublisherTest {
 
         registry.add("spring.data.redis.host", redis::getHost);
         registry.add("spring.data.redis.port", redis::getRedisPort);
+        registry.add("game.engine.accept-uncorrelated", () -> true);
     }
 
     private boolean rabbitSetupIsDone = false;
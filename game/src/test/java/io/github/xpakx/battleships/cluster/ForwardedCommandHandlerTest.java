@@ -0,0 +1,77 @@
+package io.github.xpakx.battleships.cluster;
+
+import io.github.xpakx.battleships.game.GameService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class ForwardedCommandHandlerTest {
+    GameService service;
+    GameOwnership ownership;
+    CommandForwarder forwarder;
+    ForwardedCommandHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        service = mock(GameService.class);
+        ownership = mock(GameOwnership.class);
+        forwarder = mock(CommandForwarder.class);
+        handler = new ForwardedCommandHandler(
+                service,
+                ownership,
+                forwarder,
+                mock(SimpMessagingTemplate.class),
+                mock(SimpUserRegistry.class),
+                2
+        );
+    }
+
+    @Test
+    void shouldExecuteCommandOnOwner() {
+        var command = ForwardedCommand.of(CommandType.Move, 5L, "user", null);
+        when(ownership.isOwner(5L)).thenReturn(true);
+        when(service.execute(command)).thenReturn(CompletableFuture.completedFuture(true));
+
+        handler.handleCommand(command);
+
+        verify(service).execute(command);
+        verifyNoInteractions(forwarder);
+    }
+
+    @Test
+    void shouldForwardCommandIfNotOwner() {
+        var command = ForwardedCommand.of(CommandType.Move, 5L, "user", null);
+        when(ownership.isOwner(5L)).thenReturn(false);
+        when(forwarder.forward(command)).thenReturn(CompletableFuture.completedFuture(true));
+
+        handler.handleCommand(command);
+
+        verify(forwarder).forward(command);
+        assertThat(command.getHops(), is(1));
+        verify(service, never()).execute(any());
+    }
+
+    @Test
+    void shouldRejectCommandInsteadOfExecutingOnNonOwnerAfterMaxHops() {
+        var command = ForwardedCommand.of(CommandType.Move, 5L, "user", null);
+        command.setHops(2);
+        when(ownership.isOwner(5L)).thenReturn(false);
+        when(service.reject(any(), anyString())).thenReturn(CompletableFuture.completedFuture(false));
+
+        var result = handler.handleCommand(command).join();
+
+        assertThat(result, is(false));
+        verify(service).reject(eq(command), anyString());
+        verify(service, never()).execute(any());
+        verify(forwarder, never()).forward(any(ForwardedCommand.class));
+    }
+}
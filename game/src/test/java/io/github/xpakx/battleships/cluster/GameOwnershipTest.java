@@ -0,0 +1,125 @@
+package io.github.xpakx.battleships.cluster;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class GameOwnershipTest {
+    NodeRegistry nodes;
+    StringRedisTemplate redisTemplate;
+    GameOwnership ownership;
+
+    @BeforeEach
+    void setUp() {
+        nodes = mock(NodeRegistry.class);
+        redisTemplate = mock(StringRedisTemplate.class);
+        when(nodes.isEnabled()).thenReturn(true);
+        when(nodes.getNodeId()).thenReturn("node-a");
+        ownership = new GameOwnership(nodes, redisTemplate, 15000, 600);
+    }
+
+    @Test
+    void shouldOwnEveryGameIfClusterIsDisabled() {
+        when(nodes.isEnabled()).thenReturn(false);
+
+        assertThat(ownership.isOwner(5L), is(true));
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    void shouldNotAcquireGamePreferredByOtherNode() {
+        var gameId = gamePreferredBy("node-b", List.of("node-a", "node-b"));
+        when(nodes.getLiveNodes()).thenReturn(List.of("node-a", "node-b"));
+
+        assertThat(ownership.isOwner(gameId), is(false));
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldAcquireLeaseOnceForPreferredGame() {
+        var gameId = gamePreferredBy("node-a", List.of("node-a", "node-b"));
+        when(nodes.getLiveNodes()).thenReturn(List.of("node-a", "node-b"));
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any())).thenReturn("node-a:3");
+
+        ownership.isOwner(gameId);
+        var owner = ownership.isOwner(gameId);
+
+        assertThat(owner, is(true));
+        assertThat(ownership.token(gameId), is(3L));
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class), anyList(), any(), any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldNotOwnGameLeasedByOtherNode() {
+        when(nodes.getLiveNodes()).thenReturn(List.of("node-a"));
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any())).thenReturn("node-b:4");
+
+        assertThat(ownership.isOwner(5L), is(false));
+        assertThat(ownership.token(5L), is(0L));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldHandOverGamesPreferredByJoiningNode() {
+        when(nodes.getLiveNodes()).thenReturn(List.of("node-a"));
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any())).thenReturn("node-a:1");
+        var released = new ArrayList<Long>();
+        ownership.onReleased(released::add);
+        LongStream.range(0, 100).forEach(ownership::isOwner);
+
+        ownership.rebalance(List.of("node-a", "node-b"));
+
+        var expected = LongStream.range(0, 100)
+                .filter((id) -> GameOwnership.preferredOwner(List.of("node-a", "node-b"), id).equals("node-b"))
+                .boxed()
+                .toList();
+        assertThat(released, equalTo(expected));
+        assertThat(ownership.size(), is(100 - expected.size()));
+    }
+
+    @Test
+    void shouldSpreadGamesEvenlyAcrossNodes() {
+        var live = List.of("node-a", "node-b", "node-c");
+        var counts = new HashMap<String, Integer>();
+
+        LongStream.range(0, 3000).forEach((id) -> counts.merge(GameOwnership.preferredOwner(live, id), 1, Integer::sum));
+
+        assertThat(counts.keySet(), hasSize(3));
+        counts.values().forEach((count) -> assertThat(count, is(both(greaterThan(800)).and(lessThan(1200)))));
+    }
+
+    @Test
+    void shouldOnlyMoveGamesToJoiningNode() {
+        var before = List.of("node-a", "node-b");
+        var after = List.of("node-a", "node-b", "node-c");
+
+        var moved = LongStream.range(0, 1000)
+                .filter((id) -> !GameOwnership.preferredOwner(before, id).equals(GameOwnership.preferredOwner(after, id)))
+                .mapToObj((id) -> GameOwnership.preferredOwner(after, id))
+                .distinct()
+                .toList();
+
+        assertThat(moved, equalTo(List.of("node-c")));
+    }
+
+    private long gamePreferredBy(String node, List<String> live) {
+        return LongStream.range(0, 100)
+                .filter((id) -> GameOwnership.preferredOwner(live, id).equals(node))
+                .findFirst()
+                .orElseThrow();
+    }
+}
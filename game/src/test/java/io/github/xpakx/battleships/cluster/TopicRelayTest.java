@@ -0,0 +1,114 @@
+package io.github.xpakx.battleships.cluster;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+class TopicRelayTest {
+    MessageChannel brokerChannel;
+    RecordingRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        brokerChannel = mock(MessageChannel.class);
+        relay = new RecordingRelay(brokerChannel, "node-a");
+    }
+
+    @Test
+    void shouldRelayLocalTopicMessages() {
+        relay.preSend(message("/topic/game/5", false), brokerChannel);
+
+        assertThat(relay.sent, hasSize(1));
+        var frame = RelayFrame.fromBytes(relay.sent.get(0));
+        assertThat(frame.getOrigin(), equalTo("node-a"));
+        assertThat(frame.getDestination(), equalTo("/topic/game/5"));
+        assertThat(frame.getContentType(), equalTo("application/json"));
+        assertThat(new String(frame.getPayload(), StandardCharsets.UTF_8), equalTo("{}"));
+    }
+
+    @Test
+    void shouldNotRelayUserQueuesOrRelayedMessages() {
+        relay.preSend(message("/queue/game/5-user1", false), brokerChannel);
+        relay.preSend(message("/topic/game/5", true), brokerChannel);
+
+        assertThat(relay.sent, empty());
+    }
+
+    @Test
+    void shouldDeliverFramesFromOtherNodes() {
+        relay.deliver(new RelayFrame("node-b", "/topic/game/5", "application/json", new byte[]{1}).toBytes());
+
+        verify(brokerChannel).send(argThat((Message<?> message) ->
+                "/topic/game/5".equals(SimpMessageHeaderAccessor.getDestination(message.getHeaders()))
+                        && message.getHeaders().containsKey(AbstractTopicRelay.RELAYED_HEADER)
+        ));
+    }
+
+    @Test
+    void shouldIgnoreOwnFrames() {
+        relay.deliver(new RelayFrame("node-a", "/topic/game/5", null, new byte[]{1}).toBytes());
+
+        verify(brokerChannel, never()).send(any());
+    }
+
+    @Test
+    void shouldBindOnlyTopicDestinationsInOrder() {
+        relay.interest("/topic/game/5", true);
+        relay.interest("/queue/game/5-user1", true);
+        relay.interest("/topic/game/5", false);
+
+        await().until(() -> relay.bindings.size() == 2);
+        assertThat(relay.bindings, equalTo(List.of("+/topic/game/5", "-/topic/game/5")));
+        assertThat(relay.getDestinationCount(), is(0));
+    }
+
+    private Message<byte[]> message(String destination, boolean relayed) {
+        var accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(destination);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        if (relayed) {
+            accessor.setHeader(AbstractTopicRelay.RELAYED_HEADER, true);
+        }
+        return MessageBuilder.createMessage("{}".getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders());
+    }
+
+    static class RecordingRelay extends AbstractTopicRelay {
+        final List<byte[]> sent = new CopyOnWriteArrayList<>();
+        final List<String> bindings = new CopyOnWriteArrayList<>();
+
+        RecordingRelay(MessageChannel brokerChannel, String nodeId) {
+            super(brokerChannel, nodeId);
+        }
+
+        @Override
+        protected void send(String destination, byte[] frame) {
+            sent.add(frame);
+        }
+
+        @Override
+        protected void bind(String destination) {
+            bindings.add("+" + destination);
+        }
+
+        @Override
+        protected void unbind(String destination) {
+            bindings.add("-" + destination);
+        }
+    }
+}
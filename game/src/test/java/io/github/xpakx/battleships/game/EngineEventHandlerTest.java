@@ -12,6 +12,7 @@ import org.hamcrest.Matchers;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
 import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.ExchangeBuilder;
 import org.springframework.amqp.core.Queue;
@@ -38,6 +39,7 @@ import static org.awaitility.Awaitility.await;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 @Testcontainers
@@ -59,6 +61,10 @@ class EngineEventHandlerTest {
 
     @Autowired
     GameRepository gameRepository;
+    @Autowired
+    EngineEventHandler engineEventHandler;
+    @Autowired
+    EngineRequests engineRequests;
 
     @DynamicPropertySource
     static void props(DynamicPropertyRegistry registry) {
@@ -69,6 +75,7 @@ class EngineEventHandlerTest {
 
         registry.add("spring.data.redis.host", redis::getHost);
         registry.add("spring.data.redis.port", redis::getRedisPort);
+        registry.add("game.engine.accept-uncorrelated", () -> true);
     }
 
     private boolean rabbitSetupIsDone = false;
@@ -273,7 +280,17 @@ class EngineEventHandlerTest {
         assertThat(moveEvent.getColumn(), equalTo(7));
         assertThat(moveEvent.getRow(), equalTo(5));
         assertThat(moveEvent.getGameState(), equalTo(game.getCurrentState()));
-        assertThat(moveEvent.getTargets(), equalTo(game.getUserShips()));
+        assertThat(moveEvent.getTargets(), equalTo("[{\"headX\":8,\"headY\":6,\"size\":1,\"orientation\":\"Horizontal\"}]"));
+    }
+
+    @Test
+    void shouldRejectEventIfProcessingFailsInMailbox() {
+        var event = new EngineMoveEvent();
+        event.setGameId(404L);
+        event.setLegal(true);
+        event.setCorrelationId(engineRequests.registerMove(404L, "user1", 0, 0));
+
+        assertThrows(AmqpRejectAndDontRequeueException.class, () -> engineEventHandler.handleMove(event));
     }
 
     private boolean recordHasNewState(Long id, String newState, boolean firstUser) {
@@ -0,0 +1,108 @@
+package io.github.xpakx.battleships.game;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class EngineRequestsTest {
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    EngineRequests requests;
+
+    @BeforeEach
+    void setUp() {
+        requests = new EngineRequests(meterRegistry, 100, 1000, false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        requests.shutdown();
+    }
+
+    @Test
+    void shouldAcceptFirstResponse() {
+        var id = requests.registerMove(5L, "user1", 3, 4);
+
+        assertThat(requests.complete(id), is(true));
+        assertThat(requests.size(), equalTo(0));
+    }
+
+    @Test
+    void shouldDiscardDuplicateResponse() {
+        var id = requests.registerMove(5L, "user1", 3, 4);
+        requests.complete(id);
+
+        assertThat(requests.complete(id), is(false));
+        assertThat(meterRegistry.counter("engine.requests.discarded").count(), equalTo(1.0));
+    }
+
+    @Test
+    void shouldDiscardResponseWithUnknownId() {
+        assertThat(requests.complete("other-node-1"), is(false));
+        assertThat(meterRegistry.counter("engine.requests.discarded").count(), equalTo(1.0));
+    }
+
+    @Test
+    void shouldDiscardResponseAfterFinishedEntryExpires() {
+        requests.shutdown();
+        requests = new EngineRequests(meterRegistry, 10, 1000, false);
+        var id = requests.registerMove(5L, "user1", 3, 4);
+        requests.complete(id);
+
+        await().pollDelay(200, MILLISECONDS).atMost(1, SECONDS).until(() -> true);
+
+        assertThat(requests.complete(id), is(false));
+        assertThat(meterRegistry.counter("engine.requests.discarded").count(), equalTo(1.0));
+    }
+
+    @Test
+    void shouldDiscardResponseWithoutIdByDefault() {
+        assertThat(requests.complete(null), is(false));
+    }
+
+    @Test
+    void shouldAcceptResponseWithoutIdInLegacyMode() {
+        requests.shutdown();
+        requests = new EngineRequests(meterRegistry, 100, 1000, true);
+
+        assertThat(requests.complete(null), is(true));
+    }
+
+    @Test
+    void shouldTimeOutRequestWithoutResponse() {
+        var timedOut = new CompletableFuture<PendingRequest>();
+        requests.onTimeout(timedOut::complete);
+
+        var id = requests.registerMove(5L, "user1", 3, 4);
+
+        var request = timedOut.orTimeout(2, SECONDS).join();
+        assertThat(request.getId(), equalTo(id));
+        assertThat(request.getRow(), equalTo(3));
+        assertThat(request.getColumn(), equalTo(4));
+        assertThat(requests.complete(id), is(false));
+        assertThat(
+                meterRegistry.counter("engine.requests.timeouts", "type", "Move").count(),
+                equalTo(1.0)
+        );
+    }
+
+    @Test
+    void shouldNotTimeOutCompletedRequest() {
+        var timedOut = new CompletableFuture<PendingRequest>();
+        requests.onTimeout(timedOut::complete);
+
+        var id = requests.register(5L, EngineRequestType.AIMove, null, 0);
+        requests.complete(id);
+
+        await().during(300, MILLISECONDS).atMost(1, SECONDS)
+                .until(() -> !timedOut.isDone());
+    }
+}
@@ -0,0 +1,178 @@
+package io.github.xpakx.battleships.game;
+
+import io.github.xpakx.battleships.cluster.GameOwnership;
+import io.github.xpakx.battleships.game.error.LeaseLostException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class GameCacheTest {
+    GameRepository repository;
+    StringRedisTemplate redisTemplate;
+    RedisConnection connection;
+    GameOwnership ownership;
+    GameCache cache;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(GameRepository.class);
+        redisTemplate = mock(StringRedisTemplate.class);
+        connection = mock(RedisConnection.class);
+        ownership = mock(GameOwnership.class);
+        pipelineReturns(List.of());
+        cache = new GameCache(repository, redisTemplate, ownership, 100, 60, "invalidation");
+    }
+
+    @Test
+    void shouldReadGameFromRedisOnlyOnce() {
+        var game = getGame(5L);
+        when(repository.findById(5L)).thenReturn(Optional.of(game));
+
+        cache.findById(5L);
+        var result = cache.findById(5L);
+
+        assertThat(result.orElseThrow(), sameInstance(game));
+        verify(repository, times(1)).findById(5L);
+    }
+
+    @Test
+    void shouldWriteThroughAndPublishInvalidationInOnePipeline() {
+        var game = getGame(5L);
+
+        cache.save(game);
+        var result = cache.findById(5L);
+
+        assertThat(result.orElseThrow(), sameInstance(game));
+        verify(redisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+        verify(repository).write(connection, game);
+        verify(repository, never()).findById(5L);
+        verify(connection).publish(eq("invalidation".getBytes(StandardCharsets.UTF_8)), any(byte[].class));
+    }
+
+    @Test
+    void shouldWriteAllFieldsIfGameExpiredBeforePartialSave() {
+        pipelineReturns(List.of(false));
+        var game = getGame(5L);
+        game.setDirtyFields(0);
+
+        cache.save(game);
+
+        verify(repository, times(2)).write(connection, game);
+    }
+
+    @Test
+    void shouldNotRewriteNewGame() {
+        pipelineReturns(List.of(false));
+        var game = getGame(5L);
+
+        cache.save(game);
+
+        verify(repository, times(1)).write(connection, game);
+    }
+
+    @Test
+    void shouldWriteWithFencingTokenInClusterMode() {
+        when(ownership.isEnabled()).thenReturn(true);
+        when(ownership.token(5L)).thenReturn(7L);
+        pipelineReturns(List.of(true, 1L));
+        var game = getGame(5L);
+
+        cache.save(game);
+
+        verify(repository).writeFenced(connection, game, 7L);
+        verify(repository, never()).write(connection, game);
+    }
+
+    @Test
+    void shouldDropGameIfFencedWriteIsRejected() {
+        when(ownership.isEnabled()).thenReturn(true);
+        pipelineReturns(List.of(true, 0L));
+        var game = getGame(5L);
+
+        assertThrows(LeaseLostException.class, () -> cache.save(game));
+        cache.findById(5L);
+
+        verify(ownership).lost(5L);
+        verify(repository).findById(5L);
+    }
+
+    @Test
+    void shouldEvictOnInvalidationFromOtherNode() {
+        var game = getGame(5L);
+        cache.save(game);
+
+        cache.onMessage(message("invalidation", "other-node:5"), null);
+        cache.findById(5L);
+
+        verify(repository).findById(5L);
+    }
+
+    @Test
+    void shouldEvictOnKeyDeletion() {
+        var game = getGame(5L);
+        cache.save(game);
+
+        cache.onMessage(message("__keyevent@0__:del", "game:5"), null);
+        var result = cache.findById(5L);
+
+        assertThat(result.isEmpty(), is(true));
+    }
+
+    @Test
+    void shouldInsertAbsentGamesWithFencingToken() {
+        when(ownership.isEnabled()).thenReturn(true);
+        when(ownership.token(5L)).thenReturn(7L);
+        pipelineReturns(List.of(1L, 0L, 1L));
+        var owned = getGame(5L);
+        var present = getGame(6L);
+        var foreign = getGame(8L);
+
+        var written = cache.saveAbsent(List.of(owned, present, foreign));
+        cache.findById(5L);
+        cache.findById(8L);
+
+        assertThat(written, equalTo(List.of(owned, foreign)));
+        verify(repository).writeIfAbsent(connection, owned, 7L);
+        verify(repository).writeIfAbsent(connection, foreign, 0L);
+        verify(connection, times(2)).publish(eq("invalidation".getBytes(StandardCharsets.UTF_8)), any(byte[].class));
+        verify(repository, never()).findById(5L);
+        verify(repository).findById(8L);
+    }
+
+    private void pipelineReturns(List<Object> results) {
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer((invocation) -> {
+            RedisCallback<?> callback = invocation.getArgument(0);
+            callback.doInRedis(connection);
+            return results;
+        });
+    }
+
+    private GameState getGame(Long id) {
+        var game = new GameState();
+        game.setId(id);
+        return game;
+    }
+
+    private DefaultMessage message(String channel, String body) {
+        return new DefaultMessage(
+                channel.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8)
+        );
+    }
+}
@@ -98,6 +98,8 @@ class GameControllerTest {
 
         registry.add("spring.data.redis.host", redis::getHost);
         registry.add("spring.data.redis.port", redis::getRedisPort);
+        registry.add("game.loading.timeout-ms", () -> 500);
+        registry.add("game.engine.accept-uncorrelated", () -> true);
     }
 
     private boolean rabbitSetupIsDone = false;
@@ -325,7 +327,7 @@ class GameControllerTest {
         CountDownLatch latch = new CountDownLatch(1);
         session.subscribe("/app/board/1", new BoardFrameHandler(latch));
         await()
-                .atMost(1, SECONDS)
+                .atMost(5, SECONDS)
                 .untilAsserted(() -> assertEquals(0, latch.getCount()));
         GameMessage gameMessage = completableGame.get(1, SECONDS);
         assertThat(gameMessage, notNullValue());
@@ -469,7 +471,7 @@ class GameControllerTest {
                 .atMost(1, SECONDS)
                 .until(session::isConnected);
         var latch = new CountDownLatch(1);
-        session.subscribe("/topic/game/5", new MoveFrameHandler(latch));
+        session.subscribe("/user/queue/game/5", new MoveFrameHandler(latch));
         Thread.sleep(100);
         var game = new GameState();
         game.setUsername1("user1");
@@ -509,7 +511,7 @@ class GameControllerTest {
                 .atMost(1, SECONDS)
                 .until(session::isConnected);
         var latch = new CountDownLatch(1);
-        session.subscribe("/topic/game/5", new MoveFrameHandler(latch));
+        session.subscribe("/user/queue/game/5", new MoveFrameHandler(latch));
         Thread.sleep(100);
         var game = new GameState();
         game.setUsername1("user1");
@@ -551,7 +553,7 @@ class GameControllerTest {
                 .atMost(1, SECONDS)
                 .until(session::isConnected);
         var latch = new CountDownLatch(1);
-        session.subscribe("/topic/game/5", new MoveFrameHandler(latch));
+        session.subscribe("/user/queue/game/5", new MoveFrameHandler(latch));
         Thread.sleep(100);
         var game = new GameState();
         game.setUsername1("user1");
@@ -593,7 +595,7 @@ class GameControllerTest {
                 .atMost(1, SECONDS)
                 .until(session::isConnected);
         var latch = new CountDownLatch(1);
-        session.subscribe("/topic/game/5", new MoveFrameHandler(latch));
+        session.subscribe("/user/queue/game/5", new MoveFrameHandler(latch));
         Thread.sleep(100);
         var game = new GameState();
         game.setUsername1("user1");
@@ -725,7 +727,7 @@ class GameControllerTest {
                 .atMost(1, SECONDS)
                 .until(session::isConnected);
         var latch = new CountDownLatch(1);
-        session.subscribe("/topic/placement/5", new PlacementFrameHandler(latch));
+        session.subscribe("/user/queue/placement/5", new PlacementFrameHandler(latch));
         Thread.sleep(100);
         var game = new GameState();
         game.setUsername1("user1");
@@ -764,7 +766,7 @@ class GameControllerTest {
                 .atMost(1, SECONDS)
                 .until(session::isConnected);
         var latch = new CountDownLatch(1);
-        session.subscribe("/topic/placement/5", new PlacementFrameHandler(latch));
+        session.subscribe("/user/queue/placement/5", new PlacementFrameHandler(latch));
         Thread.sleep(100);
         var game = new GameState();
         game.setUsername1("user1");
@@ -805,7 +807,7 @@ class GameControllerTest {
                 .atMost(1, SECONDS)
                 .until(session::isConnected);
         var latch = new CountDownLatch(1);
-        session.subscribe("/topic/placement/5", new PlacementFrameHandler(latch));
+        session.subscribe("/user/queue/placement/5", new PlacementFrameHandler(latch));
         Thread.sleep(100);
         var game = new GameState();
         game.setUsername1("user1");
@@ -846,7 +848,7 @@ class GameControllerTest {
                 .atMost(1, SECONDS)
                 .until(session::isConnected);
         var latch = new CountDownLatch(1);
-        session.subscribe("/topic/placement/5", new PlacementFrameHandler(latch));
+        session.subscribe("/user/queue/placement/5", new PlacementFrameHandler(latch));
         Thread.sleep(100);
         var game = new GameState();
         game.setUsername1("user1");
@@ -888,7 +890,7 @@ class GameControllerTest {
                 .atMost(1, SECONDS)
                 .until(session::isConnected);
         var latch = new CountDownLatch(1);
-        session.subscribe("/topic/placement/5", new PlacementFrameHandler(latch));
+        session.subscribe("/user/queue/placement/5", new PlacementFrameHandler(latch));
         Thread.sleep(100);
         var msg = new PlacementRequest();
         msg.setShips(List.of(new Ship()));
@@ -0,0 +1,68 @@
+package io.github.xpakx.battleships.game;
+
+import io.github.xpakx.battleships.clients.GamePublisher;
+import io.github.xpakx.battleships.game.error.GameLoadingException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+class GameLoaderTest {
+    GamePublisher publisher;
+    GameLoader loader;
+
+    @BeforeEach
+    void setUp() {
+        publisher = mock(GamePublisher.class);
+        loader = new GameLoader(publisher, 200);
+    }
+
+    @Test
+    void shouldAskForGameOnlyOnce() {
+        var first = loader.load(5L);
+        var second = loader.load(5L);
+
+        assertThat(second, sameInstance(first));
+        verify(publisher, times(1)).getGame(5L);
+    }
+
+    @Test
+    void shouldCompleteWaitingRequestsWhenGameIsLoaded() {
+        var first = loader.load(5L);
+        var second = loader.load(5L);
+        var game = new GameState();
+        game.setId(5L);
+
+        loader.loaded(game);
+
+        assertThat(first.join(), sameInstance(game));
+        assertThat(second.join(), sameInstance(game));
+        assertThat(loader.isLoading(5L), is(false));
+    }
+
+    @Test
+    void shouldFailWaitingRequestsOnError() {
+        var future = loader.load(5L);
+
+        loader.failed(5L, "No such game!");
+
+        var e = assertThrows(CompletionException.class, future::join);
+        assertThat(e.getCause(), instanceOf(GameLoadingException.class));
+    }
+
+    @Test
+    void shouldTimeOutAndAllowRetry() {
+        var future = loader.load(5L);
+
+        var e = assertThrows(CompletionException.class, future::join);
+        assertThat(e.getCause(), instanceOf(TimeoutException.class));
+        loader.load(5L);
+        verify(publisher, times(2)).getGame(5L);
+    }
+}
@@ -0,0 +1,96 @@
+package io.github.xpakx.battleships.game;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+class GameMailboxTest {
+    GameMailbox mailbox = new GameMailbox(new SimpleMeterRegistry());
+
+    @AfterEach
+    void tearDown() {
+        mailbox.shutdown();
+    }
+
+    @Test
+    void shouldProcessCommandsForGameInOrder() {
+        var processed = new ArrayList<Integer>();
+        var futures = new ArrayList<CompletableFuture<Boolean>>();
+        for (int i = 0; i < 1000; i++) {
+            var command = i;
+            futures.add(mailbox.submit(5L, () -> processed.add(command)));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+        assertThat(processed.size(), equalTo(1000));
+        for (int i = 0; i < 1000; i++) {
+            assertThat(processed.get(i), equalTo(i));
+        }
+    }
+
+    @Test
+    void shouldReturnCommandResult() {
+        var result = mailbox.submit(5L, () -> "result").join();
+
+        assertThat(result, equalTo("result"));
+    }
+
+    @Test
+    void shouldNotBlockOtherGames() throws InterruptedException {
+        var release = new CountDownLatch(1);
+        mailbox.submit(1L, () -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        var done = new CountDownLatch(1);
+        mailbox.submit(2L, done::countDown);
+
+        assertThat(done.await(5, TimeUnit.SECONDS), is(true));
+        release.countDown();
+    }
+
+    @Test
+    void shouldContinueAfterFailedCommand() {
+        var failed = mailbox.submit(5L, () -> {
+            throw new IllegalStateException();
+        });
+        var result = mailbox.submit(5L, () -> List.of(1)).join();
+
+        assertThat(failed.isCompletedExceptionally(), is(true));
+        assertThat(result, equalTo(List.of(1)));
+    }
+
+    @Test
+    void shouldRemoveIdleMailboxes() {
+        mailbox.submit(5L, () -> 1).join();
+
+        await().atMost(1, SECONDS).until(() -> mailbox.size() == 0);
+    }
+
+    @Test
+    void shouldRunNextCommandAfterCommandThrowsError() {
+        var failed = mailbox.submit(5L, () -> {
+            throw new AssertionError("broken");
+        });
+        var next = mailbox.submit(5L, () -> true);
+
+        assertThat(next.orTimeout(1, SECONDS).join(), is(true));
+        assertThat(failed.isCompletedExceptionally(), is(true));
+        await().atMost(1, SECONDS).until(() -> mailbox.size() == 0);
+    }
+}
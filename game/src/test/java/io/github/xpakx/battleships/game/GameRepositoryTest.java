@@ -0,0 +1,60 @@
+package io.github.xpakx.battleships.game;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class GameRepositoryTest {
+    StringRedisTemplate redisTemplate;
+    GameRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        repository = new GameRepository(redisTemplate, 3600);
+    }
+
+    @Test
+    void shouldReadBlockedFromExistingClaimKey() {
+        pipelineReturns(List.of(GameStateCodec.encode(getGame()), true, true));
+
+        assertThat(repository.findById(5L).orElseThrow().isBlocked(), is(true));
+    }
+
+    @Test
+    void shouldNotReadBlockedWithoutClaimKey() {
+        pipelineReturns(List.of(GameStateCodec.encode(getGame()), false, true));
+
+        assertThat(repository.findById(5L).orElseThrow().isBlocked(), is(false));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void pipelineReturns(List<Object> results) {
+        when(redisTemplate.executePipelined(any(RedisCallback.class), any(RedisSerializer.class)))
+                .thenReturn(results);
+    }
+
+    private GameState getGame() {
+        var game = new GameState();
+        game.setId(5L);
+        game.setUsername1("user1");
+        game.setUser2AI(true);
+        game.setRuleset(GameRuleset.Classic);
+        game.setAiType(AIType.Random);
+        game.setUserCurrentState("??|??");
+        game.setOpponentCurrentState("??|??");
+        game.setUserShips("[]");
+        game.setOpponentShips("[]");
+        return game;
+    }
+}
@@ -0,0 +1,87 @@
+package io.github.xpakx.battleships.game;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class GameStateCodecTest {
+
+    @Test
+    void shouldDecodeEncodedGame() {
+        var game = getGame();
+        game.nextSequence();
+
+        var decoded = GameStateCodec.decode(5L, GameStateCodec.encode(game));
+
+        assertThat(decoded.getId(), equalTo(5L));
+        assertThat(decoded.getUsername1(), equalTo("user1"));
+        assertThat(decoded.getUsername2(), nullValue());
+        assertThat(decoded.isUser2AI(), is(true));
+        assertThat(decoded.getRuleset(), equalTo(GameRuleset.Polish));
+        assertThat(decoded.getAiType(), equalTo(AIType.Greedy));
+        assertThat(decoded.isFirstUserTurn(), is(true));
+        assertThat(decoded.getSequence(), equalTo(1L));
+        assertThat(decoded.getVersion(), equalTo(game.getVersion()));
+        assertThat(decoded.getUserCurrentState(), equalTo("?x?|???"));
+        assertThat(decoded.getOpponentCurrentState(), equalTo("???|o??"));
+        assertThat(decoded.getUserShipTable().orElseThrow().toJson(), equalTo(game.getUserShipTable().orElseThrow().toJson()));
+        assertThat(decoded.hasOpponentShips(), is(false));
+    }
+
+    @Test
+    void shouldWriteOnlyChangedFieldsOfLoadedGame() {
+        var loaded = GameStateCodec.decode(5L, GameStateCodec.encode(getGame()));
+
+        loaded.changeState("?x?|.??");
+        var fields = fieldNames(GameStateCodec.encode(loaded));
+
+        assertThat(fields, containsInAnyOrder("s", "b2"));
+    }
+
+    @Test
+    void shouldReadVersionFromStateField() {
+        var game = getGame();
+        game.nextSequence();
+
+        assertThat(GameStateCodec.readVersion(GameStateCodec.encodeState(game)), equalTo(game.getVersion()));
+    }
+
+    @Test
+    void shouldNotDecodeBlockedFromHash() {
+        var game = getGame();
+        game.setBlocked(true);
+
+        assertThat(GameStateCodec.decode(5L, GameStateCodec.encode(game)).isBlocked(), is(false));
+    }
+
+    @Test
+    void shouldReturnNullForMissingGame() {
+        assertThat(GameStateCodec.decode(5L, Map.of()), nullValue());
+    }
+
+    private GameState getGame() {
+        var game = new GameState();
+        game.setId(5L);
+        game.setUsername1("user1");
+        game.setUser2AI(true);
+        game.setRuleset(GameRuleset.Polish);
+        game.setAiType(AIType.Greedy);
+        game.setFirstUserTurn(true);
+        game.setUserCurrentState("?x?|???");
+        game.setOpponentCurrentState("???|o??");
+        game.setUserShips("[{\"headX\":0,\"headY\":1,\"size\":1,\"orientation\":\"Horizontal\"}]");
+        game.setOpponentShips("[]");
+        return game;
+    }
+
+    private List<String> fieldNames(Map<byte[], byte[]> fields) {
+        return fields.keySet().stream()
+                .map((key) -> new String(key, StandardCharsets.UTF_8))
+                .toList();
+    }
+}
@@ -0,0 +1,129 @@
+package io.github.xpakx.battleships.game;
+
+import io.github.xpakx.battleships.clients.GamePublisher;
+import io.github.xpakx.battleships.clients.MovePublisher;
+import io.github.xpakx.battleships.clients.event.Phase;
+import io.github.xpakx.battleships.cluster.CommandForwarder;
+import io.github.xpakx.battleships.cluster.CommandType;
+import io.github.xpakx.battleships.cluster.GameOwnership;
+import io.github.xpakx.battleships.game.dto.StateBatchEvent;
+import io.github.xpakx.battleships.game.dto.StateEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+class GameWarmupTest {
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    GamePublisher gamePublisher;
+    MovePublisher movePublisher;
+    GameCache cache;
+    GameLoader loader;
+    GameOwnership ownership;
+    CommandForwarder forwarder;
+    GameWarmup warmup;
+
+    @BeforeEach
+    void setUp() {
+        gamePublisher = mock(GamePublisher.class);
+        movePublisher = mock(MovePublisher.class);
+        cache = mock(GameCache.class);
+        loader = mock(GameLoader.class);
+        ownership = mock(GameOwnership.class);
+        forwarder = mock(CommandForwarder.class);
+        when(ownership.isOwner(any())).thenReturn(true);
+        warmup = new GameWarmup(gamePublisher, movePublisher, cache, loader, ownership, forwarder, meterRegistry, true, 100);
+    }
+
+    @Test
+    void shouldRequestWarmupOnStart() {
+        warmup.start();
+
+        verify(gamePublisher).requestWarmup(100);
+    }
+
+    @Test
+    void shouldWriteOnlyAbsentGames() {
+        when(cache.saveAbsent(anyList())).thenAnswer((invocation) -> {
+            List<GameState> games = invocation.getArgument(0);
+            return games.stream().filter((game) -> game.getId() == 2L).toList();
+        });
+
+        warmup.start();
+        warmup.load(batch(List.of(getEvent(1L), getEvent(2L), getErrorEvent(3L)), true));
+
+        verify(cache, times(1)).saveAbsent(argThat((games) -> games.size() == 2));
+        assertThat(meterRegistry.counter("game.warmup.loaded").count(), equalTo(1.0));
+        assertThat(meterRegistry.counter("game.warmup.skipped").count(), equalTo(1.0));
+        assertThat(meterRegistry.get("game.warmup.processed").gauge().value(), equalTo(3.0));
+        assertThat(meterRegistry.get("game.warmup.duration").timer().count(), equalTo(1L));
+        verify(loader).loaded(argThat((game) -> game.getId() == 2L));
+        verify(movePublisher).sendAIEvent(argThat((game) -> game.getId() == 2L), eq(Phase.Placement));
+        verify(movePublisher, never()).sendAIEvent(argThat((game) -> game.getId() == 1L), any());
+    }
+
+    @Test
+    void shouldHandOverAITurnToOwner() {
+        when(cache.saveAbsent(anyList())).thenAnswer((invocation) -> invocation.getArgument(0));
+        when(ownership.isOwner(2L)).thenReturn(false);
+        when(forwarder.forward(any(), any(), any(), any())).thenReturn(CompletableFuture.completedFuture(true));
+        var event = getEvent(2L);
+
+        warmup.load(batch(List.of(event), false));
+
+        verify(movePublisher, never()).sendAIEvent(any(), any());
+        verify(forwarder).forward(CommandType.State, 2L, null, event);
+        verify(loader).loaded(argThat((game) -> game.getId() == 2L));
+    }
+
+    @Test
+    void shouldNotTouchRedisForEmptyBatch() {
+        when(cache.saveAbsent(anyList())).thenReturn(List.of());
+
+        warmup.load(batch(List.of(getErrorEvent(3L)), false));
+
+        verify(cache).saveAbsent(List.of());
+        verify(loader, never()).loaded(any());
+        assertThat(meterRegistry.get("game.warmup.duration").timer().count(), equalTo(0L));
+    }
+
+    private StateBatchEvent batch(List<StateEvent> games, boolean last) {
+        var batch = new StateBatchEvent();
+        batch.setGames(games);
+        batch.setTotal(games.size());
+        batch.setLast(last);
+        return batch;
+    }
+
+    private StateEvent getEvent(Long id) {
+        var event = new StateEvent();
+        event.setId(id);
+        event.setUsername1("user1");
+        event.setUsername2("AI");
+        event.setUser2AI(true);
+        event.setRuleset(GameRuleset.Classic);
+        event.setAiType(AIType.Random);
+        event.setUserCurrentState("??|??");
+        event.setOpponentCurrentState("??|??");
+        event.setUserShips("[]");
+        event.setOpponentShips("[]");
+        return event;
+    }
+
+    private StateEvent getErrorEvent(Long id) {
+        var event = new StateEvent();
+        event.setId(id);
+        event.setError(true);
+        event.setErrorMessage("No such game!");
+        return event;
+    }
+}
@@ -0,0 +1,77 @@
+package io.github.xpakx.battleships.game;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+class MoveMetricsTest {
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    MoveMetrics metrics = new MoveMetrics(meterRegistry);
+
+    @Test
+    void shouldTagStageWithRulesetAndAI() {
+        var game = getGame();
+
+        metrics.time(MoveStage.Save, game, () -> {});
+
+        var timer = meterRegistry.get("game.move.stage")
+                .tag("stage", "Save")
+                .tag("ruleset", "Polish")
+                .tag("ai", "Greedy")
+                .timer();
+        assertThat(timer.count(), equalTo(1L));
+    }
+
+    @Test
+    void shouldRecordEngineRoundTrip() {
+        var game = getGame();
+
+        metrics.moveSent("node-1", System.nanoTime());
+        metrics.engineResponded("node-1", game);
+        metrics.moveResolved("node-1");
+
+        assertThat(meterRegistry.get("game.move.stage").tag("stage", "Engine").timer().count(), equalTo(1L));
+        assertThat(meterRegistry.get("game.move.latency").tag("validation", "Engine").timer().count(), equalTo(1L));
+        assertThat(metrics.pending(), equalTo(0));
+    }
+
+    @Test
+    void shouldTrackConcurrentRequestsForSameGameSeparately() {
+        metrics.moveSent("node-1", System.nanoTime());
+        metrics.moveSent("node-2", System.nanoTime());
+        metrics.moveResolved("node-1");
+        metrics.moveResolved("node-2");
+
+        assertThat(meterRegistry.get("game.move.latency").tag("validation", "Engine").timer().count(), equalTo(2L));
+    }
+
+    @Test
+    void shouldForgetAbandonedRequests() {
+        metrics.moveSent("node-1", System.nanoTime());
+        metrics.placementSent("node-2", System.nanoTime());
+
+        metrics.abandoned("node-1");
+        metrics.abandoned("node-2");
+        metrics.moveResolved("node-1");
+
+        assertThat(metrics.pending(), equalTo(0));
+        assertThat(meterRegistry.get("game.move.latency").tag("validation", "Engine").timer().count(), equalTo(0L));
+    }
+
+    @Test
+    void shouldIgnoreUnknownMoves() {
+        metrics.moveResolved("unknown");
+
+        assertThat(meterRegistry.get("game.move.latency").tag("validation", "Engine").timer().count(), equalTo(0L));
+    }
+
+    private GameState getGame() {
+        var game = new GameState();
+        game.setId(5L);
+        game.setRuleset(GameRuleset.Polish);
+        game.setAiType(AIType.Greedy);
+        return game;
+    }
+}
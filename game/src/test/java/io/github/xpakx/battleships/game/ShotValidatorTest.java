@@ -0,0 +1,76 @@
+package io.github.xpakx.battleships.game;
+
+import io.github.xpakx.battleships.game.dto.MoveResult;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+class ShotValidatorTest {
+    private final ShotValidator validator = new ShotValidator();
+
+    private final String ships = """
+            [{"headX":0,"headY":0,"size":2,"orientation":"Horizontal"},{"headX":1,"headY":2,"size":2,"orientation":"Vertical"}]
+            """;
+
+    @Test
+    void shouldMarkMiss() {
+        var result = validator.validate(1L, 2, 0, "???|???|???", ships);
+
+        assertThat(result.isLegal(), is(true));
+        assertThat(result.getResult(), equalTo(MoveResult.Miss));
+        assertThat(result.isFinished(), is(false));
+        assertThat(result.getNewState(), equalTo("???|???|o??"));
+    }
+
+    @Test
+    void shouldMarkHit() {
+        var result = validator.validate(1L, 0, 1, "???|???|???", ships);
+
+        assertThat(result.isLegal(), is(true));
+        assertThat(result.getResult(), equalTo(MoveResult.Hit));
+        assertThat(result.getNewState(), equalTo("?.?|???|???"));
+    }
+
+    @Test
+    void shouldSinkShip() {
+        var result = validator.validate(1L, 2, 2, "???|??.|???", ships);
+
+        assertThat(result.isLegal(), is(true));
+        assertThat(result.getResult(), equalTo(MoveResult.Sunk));
+        assertThat(result.isFinished(), is(false));
+        assertThat(result.getNewState(), equalTo("???|??x|??x"));
+    }
+
+    @Test
+    void shouldFinishGameAfterLastShipIsSunk() {
+        var result = validator.validate(1L, 0, 0, "?.?|??x|??x", ships);
+
+        assertThat(result.isLegal(), is(true));
+        assertThat(result.getResult(), equalTo(MoveResult.Sunk));
+        assertThat(result.isFinished(), is(true));
+        assertThat(result.getNewState(), equalTo("xx?|??x|??x"));
+    }
+
+    @Test
+    void shouldRejectShotAtAlreadyShotField() {
+        var result = validator.validate(1L, 0, 1, "?.?|???|???", ships);
+
+        assertThat(result.isLegal(), is(false));
+    }
+
+    @Test
+    void shouldRejectShotOutsideBoard() {
+        var result = validator.validate(1L, 3, 0, "???|???|???", ships);
+
+        assertThat(result.isLegal(), is(false));
+    }
+
+    @Test
+    void shouldRejectMalformedShips() {
+        var result = validator.validate(1L, 0, 0, "???|???|???", "not ships");
+
+        assertThat(result.isLegal(), is(false));
+    }
+}
@@ -0,0 +1,68 @@
+package io.github.xpakx.battleships.game;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.xpakx.battleships.game.dto.GameMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class SnapshotCacheTest {
+    ObjectMapper mapper = new ObjectMapper();
+    SnapshotCache snapshots;
+
+    @BeforeEach
+    void setUp() {
+        snapshots = new SnapshotCache(mapper, 100, 60);
+    }
+
+    @Test
+    void shouldReuseSnapshotForSameVersion() {
+        var game = getGame();
+
+        var first = snapshots.get(game);
+        var second = snapshots.get(game);
+
+        assertThat(second, sameInstance(first));
+    }
+
+    @Test
+    void shouldRebuildSnapshotAfterStateChange() throws Exception {
+        var game = getGame();
+        var first = snapshots.get(game);
+
+        game.changeState("x?|??");
+        game.nextPlayer();
+        var second = snapshots.get(game);
+
+        assertThat(second, not(sameInstance(first)));
+        var msg = mapper.readValue(second.getPayload(), GameMessage.class);
+        assertThat(msg.getState2()[0][0], equalTo("Sunk"));
+        assertThat(msg.getCurrentPlayer(), equalTo("user2"));
+    }
+
+    @Test
+    void shouldRebuildSnapshotAfterPlacement() {
+        var game = getGame();
+        var first = snapshots.get(game);
+
+        game.setUserShips("[{\"headX\":0,\"headY\":0,\"size\":1,\"orientation\":\"Horizontal\"}]");
+        var second = snapshots.get(game);
+
+        assertThat(second, not(sameInstance(first)));
+    }
+
+    private GameState getGame() {
+        var game = new GameState();
+        game.setId(5L);
+        game.setUsername1("user1");
+        game.setUsername2("user2");
+        game.setFirstUserTurn(true);
+        game.setUserCurrentState("??|??");
+        game.setOpponentCurrentState("??|??");
+        game.setUserShips("[]");
+        game.setOpponentShips("[]");
+        return game;
+    }
+}
@@ -0,0 +1,89 @@
+package io.github.xpakx.battleships.game.board;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+class BoardTest {
+
+    @Test
+    void shouldParseBoard() {
+        var board = Board.of("???|x.o|???");
+
+        assertThat(board.getHeight(), equalTo(3));
+        assertThat(board.getWidth(), equalTo(3));
+        assertThat(board.get(0, 0), equalTo(Field.Empty));
+        assertThat(board.get(1, 0), equalTo(Field.Sunk));
+        assertThat(board.get(1, 1), equalTo(Field.Hit));
+        assertThat(board.get(1, 2), equalTo(Field.Miss));
+    }
+
+    @Test
+    void shouldConvertBoardBackToString() {
+        var state = "???o|x.o?|????";
+
+        assertThat(Board.of(state).toString(), equalTo(state));
+    }
+
+    @Test
+    void shouldConvertBoardToSymbols() {
+        var symbols = Board.of("?x|.o").toSymbols();
+
+        assertThat(symbols[0][0], equalTo("Empty"));
+        assertThat(symbols[0][1], equalTo("Sunk"));
+        assertThat(symbols[1][0], equalTo("Hit"));
+        assertThat(symbols[1][1], equalTo("Miss"));
+    }
+
+    @Test
+    void shouldPackBoardToBytes() {
+        var state = "??????????|?x?.??o???|??????????|??????????|??????????|" +
+                "??????????|??????????|??????????|??????????|?????????x";
+        var bytes = Board.of(state).toBytes();
+
+        assertThat(bytes.length, equalTo(27));
+        assertThat(Board.fromBytes(bytes).toString(), equalTo(state));
+    }
+
+    @Test
+    void shouldEncodeBoardLosslessly() {
+        var state = "??x|o.?|???";
+
+        assertThat(BoardCodec.decode(BoardCodec.encode(state)), equalTo(state));
+    }
+
+    @Test
+    void shouldEncodeNonCanonicalStateLosslessly() {
+        var state = "new state";
+
+        assertThat(Board.isCanonical(state), is(false));
+        assertThat(BoardCodec.decode(BoardCodec.encode(state)), equalTo(state));
+    }
+
+    @Test
+    void shouldCountFields() {
+        var board = Board.of("xx?|o.?|???");
+
+        assertThat(board.count(Field.Sunk), equalTo(2));
+        assertThat(board.count(Field.Hit), equalTo(1));
+        assertThat(board.count(Field.Miss), equalTo(1));
+        assertThat(board.count(Field.Empty), equalTo(5));
+    }
+
+    @Test
+    void shouldListChangedCells() {
+        var before = Board.of("??.|???|???");
+        var after = Board.of("??x|??x|o??");
+
+        var changes = before.diff(after);
+
+        assertThat(changes.size(), equalTo(3));
+        assertThat(changes.get(0).getX(), equalTo(0));
+        assertThat(changes.get(0).getY(), equalTo(2));
+        assertThat(changes.get(0).getField(), equalTo(Field.Sunk));
+        assertThat(changes.get(2).getX(), equalTo(2));
+        assertThat(changes.get(2).getField(), equalTo(Field.Miss));
+    }
+}
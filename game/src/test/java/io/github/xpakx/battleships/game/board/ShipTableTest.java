@@ -0,0 +1,76 @@
+package io.github.xpakx.battleships.game.board;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+class ShipTableTest {
+    private final String ships = "[{\"headX\":0,\"headY\":0,\"size\":2,\"orientation\":\"Horizontal\"},{\"headX\":1,\"headY\":2,\"size\":2,\"orientation\":\"Vertical\"}]";
+
+    @Test
+    void shouldWriteSameJsonAsParsed() {
+        var table = ShipTable.parse(ships).orElseThrow();
+
+        assertThat(table.toJson(), equalTo(ships));
+    }
+
+    @Test
+    void shouldCountHitsFromBoard() {
+        var table = ShipTable.parse(ships).orElseThrow();
+
+        table.countHits(Board.of("x.?|??x|??x"));
+
+        assertThat(table.getHits(0), equalTo(2));
+        assertThat(table.getHits(1), equalTo(2));
+        assertThat(table.isSunk(1), is(true));
+    }
+
+    @Test
+    void shouldKeepHitsInBinaryForm() {
+        var table = ShipTable.parse(ships).orElseThrow();
+        table.recordHit(1);
+
+        var decoded = ShipTable.fromBytes(table.toBytes());
+
+        assertThat(decoded.count(), equalTo(2));
+        assertThat(decoded.cellRow(1, 1), equalTo(2));
+        assertThat(decoded.cellColumn(1, 1), equalTo(2));
+        assertThat(decoded.getHits(1), equalTo(1));
+        assertThat(decoded.isSunk(1), is(false));
+        assertThat(decoded.toJson(), equalTo(ships));
+    }
+
+    @Test
+    void shouldEncodeEmptyTable() {
+        var decoded = ShipTable.fromBytes(ShipTable.parse("[]").orElseThrow().toBytes());
+
+        assertThat(decoded.isEmpty(), is(true));
+        assertThat(decoded.toJson(), equalTo("[]"));
+    }
+
+    @Test
+    void shouldRemoveShipFromRemainingWhenLastCellIsHit() {
+        var table = ShipTable.parse(ships).orElseThrow();
+        assertThat(table.remainingSizes(), contains(2, 2));
+
+        table.recordHit(1);
+        assertThat(table.remainingSizes(), contains(2, 2));
+        table.recordHit(1);
+
+        assertThat(table.remainingSizes(), contains(2));
+    }
+
+    @Test
+    void shouldRemoveSunkShipFromRemaining() {
+        var table = ShipTable.parse(ships).orElseThrow();
+        table.countHits(Board.of("???|???|??."));
+
+        table.sink(table.shipAt(1, 2));
+
+        assertThat(table.remainingSizes(), contains(2));
+        assertThat(ShipTable.fromBytes(table.toBytes()).remainingSizes(), contains(2));
+    }
+}
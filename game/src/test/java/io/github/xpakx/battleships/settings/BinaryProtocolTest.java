@@ -0,0 +1,102 @@
+package io.github.xpakx.battleships.settings;
+
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import io.github.xpakx.battleships.game.dto.MoveMessage;
+import io.github.xpakx.battleships.game.dto.MoveRequest;
+import io.github.xpakx.battleships.game.dto.MoveResult;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class BinaryProtocolTest {
+    BinaryProtocol protocol = new BinaryProtocol();
+    CBORMapper cborMapper = new CBORMapper();
+
+    @Test
+    void shouldEncodeJsonAsCborForBinarySession() throws Exception {
+        protocol.register("session", "cbor");
+        var json = "{\"player\":\"user1\",\"x\":1,\"y\":2,\"legal\":true,\"result\":\"Hit\"}"
+                .getBytes(StandardCharsets.UTF_8);
+
+        var result = protocol.encode(outboundMessage("session", json));
+
+        assertThat(result.getHeaders().get(MessageHeaders.CONTENT_TYPE), equalTo(BinaryProtocol.APPLICATION_CBOR));
+        var move = cborMapper.readValue((byte[]) result.getPayload(), MoveMessage.class);
+        assertThat(move.getPlayer(), equalTo("user1"));
+        assertThat(move.getY(), equalTo(2));
+        assertThat(move.getResult(), equalTo(MoveResult.Hit));
+    }
+
+    @Test
+    void shouldEncodeSourcePayloadAsCborForBinarySession() throws Exception {
+        protocol.register("session", "cbor");
+        var accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId("session");
+        accessor.setLeaveMutable(true);
+        var message = protocol.outboundConverter().toMessage(
+                MoveMessage.rejected(1, 2, "user1", "Cannot move!"),
+                accessor.getMessageHeaders()
+        );
+
+        var result = protocol.encode(message);
+
+        assertThat(result.getHeaders().get(MessageHeaders.CONTENT_TYPE), equalTo(BinaryProtocol.APPLICATION_CBOR));
+        assertThat(result.getHeaders().containsKey(BinaryProtocol.SOURCE_HEADER), is(false));
+        var move = cborMapper.readValue((byte[]) result.getPayload(), MoveMessage.class);
+        assertThat(move.getPlayer(), equalTo("user1"));
+        assertThat(move.getX(), equalTo(1));
+        assertThat(move.getMessage(), equalTo("Cannot move!"));
+    }
+
+    @Test
+    void shouldLeaveJsonSessionsUntouched() {
+        protocol.register("session", null);
+        var message = outboundMessage("session", "{}".getBytes(StandardCharsets.UTF_8));
+
+        var result = protocol.encode(message);
+
+        assertThat(result, sameInstance(message));
+    }
+
+    @Test
+    void shouldStopEncodingAfterDisconnect() {
+        protocol.register("session", "cbor");
+        protocol.unregister("session");
+        var message = outboundMessage("session", "{}".getBytes(StandardCharsets.UTF_8));
+
+        var result = protocol.encode(message);
+
+        assertThat(result, sameInstance(message));
+    }
+
+    @Test
+    void shouldDecodeCborRequest() throws Exception {
+        var payload = cborMapper.writeValueAsBytes(new MoveRequest(3, 4));
+        var accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(BinaryProtocol.APPLICATION_CBOR);
+        var message = MessageBuilder.createMessage(payload, accessor.getMessageHeaders());
+
+        var request = (MoveRequest) protocol.inboundConverter().fromMessage(message, MoveRequest.class);
+
+        assertThat(request, notNullValue());
+        assertThat(request.getX(), equalTo(3));
+        assertThat(request.getY(), equalTo(4));
+    }
+
+    private Message<byte[]> outboundMessage(String sessionId, byte[] payload) {
+        var accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(sessionId);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(payload, accessor.getMessageHeaders());
+    }
+}
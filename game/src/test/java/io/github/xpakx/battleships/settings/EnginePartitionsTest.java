@@ -0,0 +1,35 @@
+package io.github.xpakx.battleships.settings;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+
+class EnginePartitionsTest {
+    @Test
+    void shouldKeepSingleQueueWithoutPartitions() {
+        var partitions = new EnginePartitions(1);
+
+        assertThat(partitions.isPartitioned(), is(false));
+        assertThat(partitions.getQueueNames("engine.queue"), contains("engine.queue"));
+    }
+
+    @Test
+    void shouldTreatInvalidCountAsSinglePartition() {
+        var partitions = new EnginePartitions(0);
+
+        assertThat(partitions.getQueueNames("engine.queue"), contains("engine.queue"));
+    }
+
+    @Test
+    void shouldNamePartitionQueues() {
+        var partitions = new EnginePartitions(3);
+
+        assertThat(partitions.isPartitioned(), is(true));
+        assertThat(
+                partitions.getQueueNames("engine.queue"),
+                contains("engine.queue.0", "engine.queue.1", "engine.queue.2")
+        );
+    }
+}
@@ -0,0 +1,95 @@
+package io.github.xpakx.battleships.settings;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class GameSubscriptionRegistryTest {
+    GameSubscriptionRegistry registry = new GameSubscriptionRegistry();
+
+    @Test
+    void shouldFindSubscribersOfExactDestination() {
+        registry.registerSubscription(subscribe("session1", "sub1", "/topic/game/5"));
+        registry.registerSubscription(subscribe("session2", "sub1", "/topic/game/5"));
+        registry.registerSubscription(subscribe("session3", "sub1", "/topic/game/6"));
+
+        var result = registry.findSubscriptions(message("/topic/game/5"));
+
+        assertThat(result.keySet(), containsInAnyOrder("session1", "session2"));
+        assertThat(result.get("session1"), equalTo(List.of("sub1")));
+    }
+
+    @Test
+    void shouldRemoveSubscription() {
+        registry.registerSubscription(subscribe("session1", "sub1", "/topic/game/5"));
+        registry.registerSubscription(subscribe("session1", "sub2", "/topic/board/5"));
+
+        registry.unregisterSubscription(unsubscribe("session1", "sub1"));
+
+        assertThat(registry.findSubscriptions(message("/topic/game/5")).isEmpty(), is(true));
+        assertThat(registry.findSubscriptions(message("/topic/board/5")).keySet(), contains("session1"));
+        assertThat(registry.getDestinationCount(), equalTo(1));
+    }
+
+    @Test
+    void shouldRemoveAllSubscriptionsOfSession() {
+        registry.registerSubscription(subscribe("session1", "sub1", "/topic/game/5"));
+        registry.registerSubscription(subscribe("session1", "sub2", "/topic/board/5"));
+
+        registry.unregisterAllSubscriptions("session1");
+
+        assertThat(registry.getDestinationCount(), equalTo(0));
+    }
+
+    @Test
+    void shouldSupportPatternSubscriptions() {
+        registry.registerSubscription(subscribe("session1", "sub1", "/topic/game/*"));
+        registry.registerSubscription(subscribe("session2", "sub1", "/topic/game/5"));
+
+        var result = registry.findSubscriptions(message("/topic/game/5"));
+
+        assertThat(result.keySet(), containsInAnyOrder("session1", "session2"));
+    }
+
+    @Test
+    void shouldNotifyInterestOnFirstAndLastSubscriber() {
+        var events = new ArrayList<String>();
+        registry.setInterestListener((destination, interested) -> events.add((interested ? "+" : "-") + destination));
+
+        registry.registerSubscription(subscribe("session1", "sub1", "/topic/game/5"));
+        registry.registerSubscription(subscribe("session2", "sub1", "/topic/game/5"));
+        registry.unregisterSubscription(unsubscribe("session1", "sub1"));
+        registry.unregisterAllSubscriptions("session2");
+
+        assertThat(events, equalTo(List.of("+/topic/game/5", "-/topic/game/5")));
+    }
+
+    private Message<byte[]> subscribe(String sessionId, String subscriptionId, String destination) {
+        var accessor = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private Message<byte[]> unsubscribe(String sessionId, String subscriptionId) {
+        var accessor = SimpMessageHeaderAccessor.create(SimpMessageType.UNSUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private Message<byte[]> message(String destination) {
+        var accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
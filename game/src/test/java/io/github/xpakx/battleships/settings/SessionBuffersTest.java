@@ -0,0 +1,83 @@
+package io.github.xpakx.battleships.settings;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.SubscribableChannel;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.messaging.StompSubProtocolHandler;
+
+import java.util.concurrent.CountDownLatch;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class SessionBuffersTest {
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    SessionBuffers buffers = new SessionBuffers(meterRegistry);
+
+    @Test
+    void shouldReportBytesBufferedForSlowSession() throws Exception {
+        var sending = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var session = new ConcurrentWebSocketSessionDecorator(blockedSession(sending, release), 10000, 1024);
+        buffers.add(session);
+
+        Thread.ofVirtual().start(() -> send(session, "first"));
+        sending.await(1, SECONDS);
+        session.sendMessage(new TextMessage("12345"));
+
+        assertThat(gauge("websocket.outbound.buffered"), equalTo(5.0));
+        assertThat(gauge("websocket.outbound.buffered.max"), equalTo(5.0));
+        release.countDown();
+        await().atMost(1, SECONDS).until(() -> gauge("websocket.outbound.buffered") == 0.0);
+    }
+
+    @Test
+    void shouldTrackSessionsOfHandler() throws Exception {
+        var handler = new MeteredWebSocketHandler(mock(MessageChannel.class), mock(SubscribableChannel.class), buffers);
+        handler.addProtocolHandler(new StompSubProtocolHandler());
+        var session = mockSession();
+
+        handler.decorateSession(session);
+        assertThat(gauge("websocket.sessions"), equalTo(1.0));
+        handler.afterConnectionClosed(session, CloseStatus.NORMAL);
+
+        assertThat(gauge("websocket.sessions"), equalTo(0.0));
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get(name).gauge().value();
+    }
+
+    private void send(WebSocketSession session, String payload) {
+        try {
+            session.sendMessage(new TextMessage(payload));
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private WebSocketSession mockSession() {
+        var session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn("session");
+        return session;
+    }
+
+    private WebSocketSession blockedSession(CountDownLatch sending, CountDownLatch release) throws Exception {
+        var session = mockSession();
+        doAnswer((invocation) -> {
+            sending.countDown();
+            release.await();
+            return null;
+        }).when(session).sendMessage(any());
+        return session;
+    }
+}
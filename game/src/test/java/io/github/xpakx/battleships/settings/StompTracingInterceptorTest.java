@@ -0,0 +1,87 @@
+package io.github.xpakx.battleships.settings;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.transport.ReceiverContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class StompTracingInterceptorTest {
+    ObservationRegistry registry;
+    List<Observation.Context> started;
+    List<Observation.Context> stopped;
+    StompTracingInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        registry = ObservationRegistry.create();
+        started = new ArrayList<>();
+        stopped = new ArrayList<>();
+        registry.observationConfig().observationHandler(new ObservationHandler<>() {
+            @Override
+            public void onStart(Observation.Context context) {
+                started.add(context);
+            }
+
+            @Override
+            public void onStop(Observation.Context context) {
+                stopped.add(context);
+            }
+
+            @Override
+            public boolean supportsContext(Observation.Context context) {
+                return true;
+            }
+        });
+        interceptor = new StompTracingInterceptor(registry);
+    }
+
+    @Test
+    void shouldObserveHandlingOfSendFrame() {
+        var message = message(StompCommand.SEND, "00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01");
+
+        interceptor.beforeHandle(message, null, null);
+        var current = registry.getCurrentObservation();
+        interceptor.afterMessageHandled(message, null, null, null);
+
+        assertThat(current, notNullValue());
+        assertThat(started, hasSize(1));
+        assertThat(stopped, hasSize(1));
+        assertThat(registry.getCurrentObservation(), nullValue());
+        var context = (ReceiverContext<StompHeaderAccessor>) started.get(0);
+        assertThat(context.getContextualName(), equalTo("stomp /app/move/5"));
+        assertThat(context.getGetter().get(context.getCarrier(), "traceparent"),
+                equalTo("00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01"));
+    }
+
+    @Test
+    void shouldIgnoreOtherFrames() {
+        var message = message(StompCommand.SUBSCRIBE, null);
+
+        interceptor.beforeHandle(message, null, null);
+        interceptor.afterMessageHandled(message, null, null, null);
+
+        assertThat(started, empty());
+    }
+
+    private Message<byte[]> message(StompCommand command, String traceparent) {
+        var accessor = StompHeaderAccessor.create(command);
+        accessor.setDestination("/app/move/5");
+        if (traceparent != null) {
+            accessor.setNativeHeader("traceparent", traceparent);
+        }
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
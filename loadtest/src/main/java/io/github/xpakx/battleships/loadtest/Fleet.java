@@ -0,0 +1,39 @@
+package io.github.xpakx.battleships.loadtest;
+
+import io.github.xpakx.battleships.loadtest.dto.Ship;
+import io.github.xpakx.battleships.loadtest.dto.ShipOrientation;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Random;
+
+public class Fleet {
+    private static final int[] CLASSIC = {5, 4, 3, 3, 2};
+
+    public static List<Ship> random(int size, Random random) {
+        var ships = new ArrayList<Ship>(CLASSIC.length);
+        for (int i = 0; i < CLASSIC.length; i++) {
+            var ship = new Ship();
+            ship.setHeadX(i * 2);
+            ship.setHeadY(random.nextInt(size - CLASSIC[i] + 1));
+            ship.setSize(CLASSIC[i]);
+            ship.setOrientation(ShipOrientation.Horizontal);
+            ships.add(ship);
+        }
+        return ships;
+    }
+
+    public static Deque<int[]> shots(int size, Random random) {
+        var cells = new ArrayList<int[]>(size * size);
+        for (int row = 0; row < size; row++) {
+            for (int column = 0; column < size; column++) {
+                cells.add(new int[]{row, column});
+            }
+        }
+        Collections.shuffle(cells, random);
+        return new ArrayDeque<>(cells);
+    }
+}
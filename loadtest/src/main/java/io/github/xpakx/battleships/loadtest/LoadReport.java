@@ -0,0 +1,139 @@
+package io.github.xpakx.battleships.loadtest;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.text.DecimalFormat;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+@Component
+public class LoadReport {
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final Timer moveTimer = timer("loadtest.move.latency");
+    private final Timer placementTimer = timer("loadtest.placement.latency");
+    private final Timer connectTimer = timer("loadtest.connect.latency");
+    private final Counter rejectedCounter = registry.counter("loadtest.moves.rejected");
+    private final Counter finishedCounter = registry.counter("loadtest.games.finished");
+    private final Counter stalledCounter = registry.counter("loadtest.games.stalled");
+    private final Counter failedCounter = registry.counter("loadtest.connect.failed");
+    private final Counter updatesCounter = registry.counter("loadtest.updates");
+    private final AtomicInteger sessions = registry.gauge("loadtest.sessions", new AtomicInteger());
+    private final AtomicInteger activeGames = registry.gauge("loadtest.games.active", new AtomicInteger());
+    private final DecimalFormat percentileFormat = new DecimalFormat("0.#");
+    private long startedAt;
+    private long lastReportAt;
+    private long lastMoves;
+    Logger logger = LoggerFactory.getLogger(LoadReport.class);
+
+    private Timer timer(String name) {
+        return Timer.builder(name)
+                .publishPercentiles(0.5, 0.9, 0.99, 0.999)
+                .distributionStatisticExpiry(Duration.ofDays(1))
+                .distributionStatisticBufferLength(1)
+                .register(registry);
+    }
+
+    public void start() {
+        startedAt = System.nanoTime();
+        lastReportAt = startedAt;
+    }
+
+    public void moveCompleted(long sentAt) {
+        moveTimer.record(System.nanoTime() - sentAt, TimeUnit.NANOSECONDS);
+    }
+
+    public void placementCompleted(long sentAt) {
+        placementTimer.record(System.nanoTime() - sentAt, TimeUnit.NANOSECONDS);
+    }
+
+    public void connected(long startedAt) {
+        connectTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        sessions.incrementAndGet();
+    }
+
+    public void disconnected() {
+        sessions.decrementAndGet();
+    }
+
+    public void connectFailed() {
+        failedCounter.increment();
+    }
+
+    public void moveRejected() {
+        rejectedCounter.increment();
+    }
+
+    public void gameStarted() {
+        activeGames.incrementAndGet();
+    }
+
+    public void gameFinished() {
+        activeGames.decrementAndGet();
+        finishedCounter.increment();
+    }
+
+    public void gameStalled() {
+        activeGames.decrementAndGet();
+        stalledCounter.increment();
+    }
+
+    public void updateReceived() {
+        updatesCounter.increment();
+    }
+
+    public int getActiveGames() {
+        return activeGames.get();
+    }
+
+    public synchronized void printInterval() {
+        var now = System.nanoTime();
+        var moves = moveTimer.count();
+        var rate = (moves - lastMoves) / seconds(now - lastReportAt);
+        lastMoves = moves;
+        lastReportAt = now;
+        logger.info(
+                "t={}s sessions={} games={} moves/s={} move latency {}",
+                Math.round(seconds(now - startedAt)),
+                sessions.get(),
+                activeGames.get(),
+                Math.round(rate),
+                percentiles(moveTimer)
+        );
+    }
+
+    public void printSummary() {
+        var elapsed = seconds(System.nanoTime() - startedAt);
+        logger.info("Elapsed: {}s", Math.round(elapsed));
+        logger.info("Moves: {} ({} moves/s), rejected: {}", moveTimer.count(), Math.round(moveTimer.count() / elapsed), (long) rejectedCounter.count());
+        logger.info("Games finished: {}, stalled: {}", (long) finishedCounter.count(), (long) stalledCounter.count());
+        logger.info("Sessions failed to connect: {}", (long) failedCounter.count());
+        logger.info("Updates received by stub main: {}", (long) updatesCounter.count());
+        logger.info("Move latency {}", percentiles(moveTimer));
+        logger.info("Placement latency {}", percentiles(placementTimer));
+        logger.info("Connect latency {}", percentiles(connectTimer));
+    }
+
+    private String percentiles(Timer timer) {
+        var snapshot = timer.takeSnapshot();
+        return Arrays.stream(snapshot.percentileValues())
+                .map(this::formatPercentile)
+                .collect(Collectors.joining(" ", "[", String.format(" max=%.1fms]", snapshot.max(TimeUnit.MILLISECONDS))));
+    }
+
+    private String formatPercentile(ValueAtPercentile value) {
+        return String.format("p%s=%.1fms", percentileFormat.format(value.percentile() * 100), value.value(TimeUnit.MILLISECONDS));
+    }
+
+    private double seconds(long nanos) {
+        return Math.max(nanos, 1) / 1e9;
+    }
+}
@@ -0,0 +1,108 @@
+package io.github.xpakx.battleships.loadtest;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class LoadRunner implements ApplicationRunner {
+    private static final long DRAIN_TIMEOUT_MS = 30_000;
+    private final WebSocketStompClient client;
+    private final ScriptedGames games;
+    private final LoadReport report;
+    private final TokenFactory tokens;
+    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(
+            Runtime.getRuntime().availableProcessors(),
+            Thread.ofPlatform().name("loadtest-", 0).daemon().factory()
+    );
+    private final AtomicLong nextId = new AtomicLong();
+    private volatile boolean running;
+    Logger logger = LoggerFactory.getLogger(LoadRunner.class);
+
+    @Value("${loadtest.url}")
+    private String url;
+    @Value("${loadtest.games}")
+    private int gameCount;
+    @Value("${loadtest.ramp-up-seconds}")
+    private long rampUpSeconds;
+    @Value("${loadtest.duration-seconds}")
+    private long durationSeconds;
+    @Value("${loadtest.think-time-ms}")
+    private long thinkTimeMs;
+    @Value("${loadtest.stall-timeout-seconds}")
+    private long stallTimeoutSeconds;
+    @Value("${loadtest.report-interval-seconds}")
+    private long reportIntervalSeconds;
+    @Value("${loadtest.board-size}")
+    private int boardSize;
+    @Value("${loadtest.first-game-id}")
+    private long firstGameId;
+
+    public LoadRunner(WebSocketStompClient client, ScriptedGames games, LoadReport report, TokenFactory tokens) {
+        this.client = client;
+        this.games = games;
+        this.report = report;
+        this.tokens = tokens;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        nextId.set(firstGameId > 0 ? firstGameId : System.currentTimeMillis() * 1000);
+        logger.info("Starting {} games against {} (ramp-up {}s, duration {}s)", gameCount, url, rampUpSeconds, durationSeconds);
+        running = true;
+        report.start();
+        var rampUpMs = TimeUnit.SECONDS.toMillis(rampUpSeconds);
+        for (int slot = 0; slot < gameCount; slot++) {
+            scheduler.schedule(this::startGame, rampUpMs * slot / gameCount, TimeUnit.MILLISECONDS);
+        }
+        scheduler.scheduleAtFixedRate(report::printInterval, reportIntervalSeconds, reportIntervalSeconds, TimeUnit.SECONDS);
+        scheduler.scheduleAtFixedRate(this::failStalledGames, 1, 1, TimeUnit.SECONDS);
+
+        Thread.sleep(TimeUnit.SECONDS.toMillis(durationSeconds));
+        running = false;
+        logger.info("Duration elapsed, waiting for {} games to finish", report.getActiveGames());
+        var deadline = System.currentTimeMillis() + DRAIN_TIMEOUT_MS;
+        while (report.getActiveGames() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(100);
+        }
+        for (var game : List.copyOf(games.getAll())) {
+            game.finish(false);
+        }
+        scheduler.shutdownNow();
+        report.printSummary();
+    }
+
+    private void startGame() {
+        if (!running) {
+            return;
+        }
+        var game = new ScriptedGame(nextId.getAndIncrement(), boardSize, thinkTimeMs, report, scheduler, this::onGameDone);
+        games.add(game);
+        game.start(client, url, tokens);
+    }
+
+    private void onGameDone(ScriptedGame game, boolean finished) {
+        games.remove(game);
+        if (running) {
+            scheduler.execute(this::startGame);
+        }
+    }
+
+    private void failStalledGames() {
+        var deadline = System.nanoTime() - TimeUnit.SECONDS.toNanos(stallTimeoutSeconds);
+        for (var game : games.stalled(deadline)) {
+            logger.debug("Game {} stalled", game.getId());
+            game.finish(false);
+        }
+    }
+}
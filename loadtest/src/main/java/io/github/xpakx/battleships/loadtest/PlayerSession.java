@@ -0,0 +1,72 @@
+package io.github.xpakx.battleships.loadtest;
+
+import lombok.Getter;
+import org.springframework.messaging.simp.stomp.*;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.lang.reflect.Type;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+public class PlayerSession extends StompSessionHandlerAdapter {
+    @Getter
+    private final String username;
+    private final Runnable onError;
+    private volatile StompSession session;
+
+    public PlayerSession(String username, Runnable onError) {
+        this.username = username;
+        this.onError = onError;
+    }
+
+    public CompletableFuture<PlayerSession> connect(WebSocketStompClient client, String url, String token) {
+        var headers = new StompHeaders();
+        headers.add("Token", token);
+        return client.connectAsync(url, new WebSocketHttpHeaders(), headers, this)
+                .thenApply((session) -> {
+                    this.session = session;
+                    return this;
+                });
+    }
+
+    public <T> void subscribe(String destination, Class<T> type, Consumer<T> handler) {
+        session.subscribe(destination, new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return type;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                handler.accept(type.cast(payload));
+            }
+        });
+    }
+
+    public void send(String destination, Object payload) {
+        session.send(destination, payload);
+    }
+
+    public boolean isConnected() {
+        return session != null && session.isConnected();
+    }
+
+    public void disconnect() {
+        if (isConnected()) {
+            session.disconnect();
+        }
+    }
+
+    @Override
+    public void handleException(StompSession session, StompCommand command, StompHeaders headers, byte[] payload, Throwable exception) {
+        onError.run();
+    }
+
+    @Override
+    public void handleTransportError(StompSession session, Throwable exception) {
+        if (this.session != null) {
+            onError.run();
+        }
+    }
+}
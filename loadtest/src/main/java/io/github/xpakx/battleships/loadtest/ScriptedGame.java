@@ -0,0 +1,208 @@
+package io.github.xpakx.battleships.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.github.xpakx.battleships.loadtest.dto.MoveMessage;
+import io.github.xpakx.battleships.loadtest.dto.MoveRequest;
+import io.github.xpakx.battleships.loadtest.dto.PlacementMessage;
+import io.github.xpakx.battleships.loadtest.dto.PlacementRequest;
+import lombok.Getter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+public class ScriptedGame {
+    @Getter
+    private final Long id;
+    @Getter
+    private final String username1;
+    @Getter
+    private final String username2;
+    @Getter
+    private final boolean firstUserStarts;
+    @Getter
+    private volatile long lastProgress = System.nanoTime();
+    private final int boardSize;
+    private final long thinkTimeMs;
+    private final Random random;
+    private final LoadReport report;
+    private final ScheduledExecutorService scheduler;
+    private final BiConsumer<ScriptedGame, Boolean> onDone;
+    private final PlayerSession[] players = new PlayerSession[2];
+    private final Deque<int[]>[] shots;
+    private final long[] placementSentAt = new long[2];
+    private final Set<String> placed = new HashSet<>();
+    private int boardsReady;
+    private int currentPlayer;
+    private long lastSequence;
+    private long moveSentAt;
+    private boolean done;
+    Logger logger = LoggerFactory.getLogger(ScriptedGame.class);
+
+    @SuppressWarnings("unchecked")
+    public ScriptedGame(
+            Long id,
+            int boardSize,
+            long thinkTimeMs,
+            LoadReport report,
+            ScheduledExecutorService scheduler,
+            BiConsumer<ScriptedGame, Boolean> onDone
+    ) {
+        this.id = id;
+        this.username1 = "load-" + id + "-1";
+        this.username2 = "load-" + id + "-2";
+        this.random = new Random(id);
+        this.firstUserStarts = random.nextBoolean();
+        this.boardSize = boardSize;
+        this.thinkTimeMs = thinkTimeMs;
+        this.report = report;
+        this.scheduler = scheduler;
+        this.onDone = onDone;
+        this.shots = new Deque[]{Fleet.shots(boardSize, random), Fleet.shots(boardSize, random)};
+        this.currentPlayer = firstUserStarts ? 0 : 1;
+    }
+
+    public void start(WebSocketStompClient client, String url, TokenFactory tokens) {
+        report.gameStarted();
+        var connections = new CompletableFuture<?>[2];
+        for (int player = 0; player < 2; player++) {
+            var username = player == 0 ? username1 : username2;
+            players[player] = new PlayerSession(username, () -> finish(false));
+            var connectStart = System.nanoTime();
+            connections[player] = players[player].connect(client, url, tokens.create(username))
+                    .thenAccept((session) -> report.connected(connectStart));
+        }
+        CompletableFuture.allOf(connections).whenComplete((result, e) -> {
+            if (e != null) {
+                logger.debug("Game {} could not connect: {}", id, e.getMessage());
+                report.connectFailed();
+                finish(false);
+                return;
+            }
+            for (int player = 0; player < 2; player++) {
+                subscribe(player);
+            }
+        });
+    }
+
+    private void subscribe(int player) {
+        var session = players[player];
+        session.subscribe("/topic/game/" + id, MoveMessage.class, this::onMove);
+        session.subscribe("/topic/placement/" + id, PlacementMessage.class, this::onPlacement);
+        session.subscribe("/user/queue/game/" + id, MoveMessage.class, this::onMoveRejected);
+        session.subscribe("/user/queue/placement/" + id, PlacementMessage.class, this::onPlacementRejected);
+        session.subscribe("/app/board/" + id, JsonNode.class, this::onBoard);
+    }
+
+    private synchronized void onBoard(JsonNode board) {
+        if (done) {
+            return;
+        }
+        if (board.hasNonNull("error")) {
+            logger.debug("Game {} could not be loaded: {}", id, board.get("error").asText());
+            finish(false);
+            return;
+        }
+        progress();
+        if (++boardsReady < 2) {
+            return;
+        }
+        for (int player = 0; player < 2; player++) {
+            var request = new PlacementRequest();
+            request.setShips(Fleet.random(boardSize, random));
+            placementSentAt[player] = System.nanoTime();
+            players[player].send("/app/placement/" + id, request);
+        }
+    }
+
+    private synchronized void onPlacement(PlacementMessage message) {
+        if (done || !message.isLegal() || !placed.add(message.getPlayer())) {
+            return;
+        }
+        progress();
+        report.placementCompleted(placementSentAt[message.getPlayer().equals(username1) ? 0 : 1]);
+        if (placed.size() == 2) {
+            scheduleMove();
+        }
+    }
+
+    private synchronized void onPlacementRejected(PlacementMessage message) {
+        logger.debug("Placement rejected in game {} for {}", id, message.getPlayer());
+        finish(false);
+    }
+
+    private synchronized void onMove(MoveMessage message) {
+        if (done || !message.isLegal() || message.getSequence() <= lastSequence) {
+            return;
+        }
+        lastSequence = message.getSequence();
+        progress();
+        report.moveCompleted(moveSentAt);
+        if (message.isFinished()) {
+            finish(true);
+            return;
+        }
+        currentPlayer = 1 - currentPlayer;
+        scheduleMove();
+    }
+
+    private synchronized void onMoveRejected(MoveMessage message) {
+        if (done) {
+            return;
+        }
+        logger.debug("Move rejected in game {}: {}", id, message.getMessage());
+        report.moveRejected();
+        scheduleMove();
+    }
+
+    private void scheduleMove() {
+        scheduler.schedule(this::move, thinkTimeMs, TimeUnit.MILLISECONDS);
+    }
+
+    private synchronized void move() {
+        if (done) {
+            return;
+        }
+        var shot = shots[currentPlayer].poll();
+        if (shot == null) {
+            finish(false);
+            return;
+        }
+        var request = new MoveRequest();
+        request.setX(shot[0]);
+        request.setY(shot[1]);
+        moveSentAt = System.nanoTime();
+        players[currentPlayer].send("/app/move/" + id, request);
+    }
+
+    private void progress() {
+        lastProgress = System.nanoTime();
+    }
+
+    public synchronized void finish(boolean finished) {
+        if (done) {
+            return;
+        }
+        done = true;
+        for (var player : players) {
+            if (player != null && player.isConnected()) {
+                player.disconnect();
+                report.disconnected();
+            }
+        }
+        if (finished) {
+            report.gameFinished();
+        } else {
+            report.gameStalled();
+        }
+        onDone.accept(this, finished);
+    }
+}
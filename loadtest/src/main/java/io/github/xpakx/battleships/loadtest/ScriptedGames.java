@@ -0,0 +1,35 @@
+package io.github.xpakx.battleships.loadtest;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class ScriptedGames {
+    private final Map<Long, ScriptedGame> games = new ConcurrentHashMap<>();
+
+    public void add(ScriptedGame game) {
+        games.put(game.getId(), game);
+    }
+
+    public ScriptedGame get(Long id) {
+        return games.get(id);
+    }
+
+    public void remove(ScriptedGame game) {
+        games.remove(game.getId(), game);
+    }
+
+    public List<ScriptedGame> stalled(long deadline) {
+        return games.values().stream()
+                .filter((game) -> game.getLastProgress() < deadline)
+                .toList();
+    }
+
+    public Collection<ScriptedGame> getAll() {
+        return games.values();
+    }
+}
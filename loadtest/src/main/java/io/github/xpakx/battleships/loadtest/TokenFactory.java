@@ -0,0 +1,26 @@
+package io.github.xpakx.battleships.loadtest;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+
+@Component
+public class TokenFactory {
+    private static final long VALIDITY_MS = 24 * 60 * 60 * 1000L;
+
+    @Value("${jwt.secret}")
+    private String secret;
+
+    public String create(String username) {
+        var now = System.currentTimeMillis();
+        return Jwts.builder()
+                .setSubject(username)
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + VALIDITY_MS))
+                .signWith(SignatureAlgorithm.HS512, secret)
+                .compact();
+    }
+}
@@ -0,0 +1,16 @@
+package io.github.xpakx.battleships.loadtest.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class EngineMoveEvent {
+    private Long gameId;
+    private boolean legal;
+    private Integer row;
+    private Integer column;
+    private boolean finished;
+    private MoveResult result;
+    private String newState;
+}
@@ -0,0 +1,13 @@
+package io.github.xpakx.battleships.loadtest.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class EnginePlacementEvent {
+    private Long gameId;
+    private String ships;
+    private boolean firstUser;
+    private boolean legal;
+}
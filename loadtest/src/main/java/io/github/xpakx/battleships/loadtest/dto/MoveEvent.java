@@ -0,0 +1,15 @@
+package io.github.xpakx.battleships.loadtest.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class MoveEvent {
+    private String gameState;
+    private String targets;
+    private Long gameId;
+    private Integer column;
+    private Integer row;
+    private String ruleset;
+}
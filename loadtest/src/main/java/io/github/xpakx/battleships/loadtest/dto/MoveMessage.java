@@ -0,0 +1,19 @@
+package io.github.xpakx.battleships.loadtest.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class MoveMessage {
+    private String player;
+    private int x;
+    private int y;
+    private boolean legal;
+    private MoveResult result;
+    private String message;
+    private boolean finished;
+    private boolean won;
+    private String winner;
+    private long sequence;
+}
@@ -0,0 +1,7 @@
+package io.github.xpakx.battleships.loadtest.dto;
+
+public enum MoveResult {
+    Miss,
+    Hit,
+    Sunk
+}
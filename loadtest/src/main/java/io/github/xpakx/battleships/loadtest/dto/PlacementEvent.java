@@ -0,0 +1,13 @@
+package io.github.xpakx.battleships.loadtest.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class PlacementEvent {
+    private Long gameId;
+    private boolean firstUser;
+    private String ships;
+    private String ruleset;
+}
@@ -0,0 +1,11 @@
+package io.github.xpakx.battleships.loadtest.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class PlacementMessage {
+    private String player;
+    private boolean legal;
+}
@@ -0,0 +1,6 @@
+package io.github.xpakx.battleships.loadtest.dto;
+
+public enum ShipOrientation {
+    Horizontal,
+    Vertical
+}
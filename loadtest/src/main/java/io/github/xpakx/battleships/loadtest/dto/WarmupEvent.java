@@ -0,0 +1,10 @@
+package io.github.xpakx.battleships.loadtest.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class WarmupEvent {
+    private int pageSize;
+}
@@ -0,0 +1,79 @@
+package io.github.xpakx.battleships.loadtest.settings;
+
+import org.springframework.amqp.core.*;
+import org.springframework.amqp.rabbit.annotation.RabbitListenerConfigurer;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.handler.annotation.support.DefaultMessageHandlerMethodFactory;
+import org.springframework.messaging.handler.annotation.support.MessageHandlerMethodFactory;
+
+@Configuration
+public class AMQPConfig {
+
+    @Bean
+    public Jackson2JsonMessageConverter producerJackson2MessageConverter() {
+        return new Jackson2JsonMessageConverter();
+    }
+
+    @Bean
+    public MessageHandlerMethodFactory messageHandlerMethodFactory() {
+        DefaultMessageHandlerMethodFactory factory = new DefaultMessageHandlerMethodFactory();
+        factory.setMessageConverter(new MappingJackson2MessageConverter());
+        return factory;
+    }
+
+    @Bean
+    public RabbitListenerConfigurer rabbitListenerConfigurer(
+            final MessageHandlerMethodFactory messageHandlerMethodFactory) {
+        return (c) -> c.setMessageHandlerMethodFactory(messageHandlerMethodFactory);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "loadtest.stub.engine", havingValue = "true")
+    public Declarables stubEngineQueues(
+            @Value("${amqp.exchange.moves}") final String exchangeName,
+            @Value("${amqp.queue.moves}") final String movesQueue,
+            @Value("${amqp.queue.placement}") final String placementQueue
+    ) {
+        var exchange = ExchangeBuilder.topicExchange(exchangeName).durable(true).build();
+        var moves = QueueBuilder.durable(movesQueue).build();
+        var placement = QueueBuilder.durable(placementQueue).build();
+        return new Declarables(
+                exchange,
+                moves,
+                placement,
+                BindingBuilder.bind(moves).to(exchange).with("move").noargs(),
+                BindingBuilder.bind(placement).to(exchange).with("placement").noargs()
+        );
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "loadtest.stub.main", havingValue = "true")
+    public Declarables stubMainQueues(
+            @Value("${amqp.exchange.games}") final String gamesExchangeName,
+            @Value("${amqp.exchange.updates}") final String updatesExchangeName,
+            @Value("${amqp.queue.games}") final String gamesQueue,
+            @Value("${amqp.queue.warmup}") final String warmupQueue,
+            @Value("${amqp.queue.updates}") final String updatesQueue
+    ) {
+        var gamesExchange = ExchangeBuilder.topicExchange(gamesExchangeName).durable(true).build();
+        var updatesExchange = ExchangeBuilder.topicExchange(updatesExchangeName).durable(true).build();
+        var games = QueueBuilder.durable(gamesQueue).build();
+        var warmup = QueueBuilder.durable(warmupQueue).build();
+        var updates = QueueBuilder.durable(updatesQueue).build();
+        return new Declarables(
+                gamesExchange,
+                updatesExchange,
+                games,
+                warmup,
+                updates,
+                BindingBuilder.bind(games).to(gamesExchange).with("game").noargs(),
+                BindingBuilder.bind(warmup).to(gamesExchange).with("warmup").noargs(),
+                BindingBuilder.bind(updates).to(updatesExchange).with("update").noargs()
+        );
+    }
+}
@@ -0,0 +1,18 @@
+package io.github.xpakx.battleships.loadtest.settings;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+@Configuration
+public class StompConfig {
+
+    @Bean
+    public WebSocketStompClient stompClient() {
+        var client = new WebSocketStompClient(new StandardWebSocketClient());
+        client.setMessageConverter(new MappingJackson2MessageConverter());
+        return client;
+    }
+}
@@ -0,0 +1,114 @@
+package io.github.xpakx.battleships.loadtest.stub;
+
+import io.github.xpakx.battleships.loadtest.dto.EngineMoveEvent;
+import io.github.xpakx.battleships.loadtest.dto.MoveResult;
+import io.github.xpakx.battleships.loadtest.dto.Ship;
+import io.github.xpakx.battleships.loadtest.dto.ShipOrientation;
+
+import java.util.List;
+
+public class ShotRules {
+    public static EngineMoveEvent shoot(Long gameId, int row, int column, String state, List<Ship> ships) {
+        var event = new EngineMoveEvent();
+        event.setGameId(gameId);
+        event.setRow(row);
+        event.setColumn(column);
+        if (state == null || ships == null) {
+            return event;
+        }
+        var board = toBoard(state);
+        if (row < 0 || row >= board.length || column < 0 || column >= board[row].length || board[row][column] != '?') {
+            return event;
+        }
+
+        event.setLegal(true);
+        var ship = shipAt(ships, row, column);
+        if (ship == null) {
+            board[row][column] = 'o';
+            event.setResult(MoveResult.Miss);
+        } else {
+            board[row][column] = '.';
+            if (allCellsMatch(board, ship, '.')) {
+                mark(board, ship, 'x');
+                event.setResult(MoveResult.Sunk);
+            } else {
+                event.setResult(MoveResult.Hit);
+            }
+        }
+        event.setFinished(ships.stream().allMatch((s) -> allCellsMatch(board, s, 'x')));
+        event.setNewState(toState(board));
+        return event;
+    }
+
+    public static boolean isPlacementLegal(List<Ship> ships, int size) {
+        if (ships == null || ships.isEmpty()) {
+            return false;
+        }
+        var taken = new boolean[size][size];
+        for (var ship : ships) {
+            for (int cell = 0; cell < ship.getSize(); cell++) {
+                var row = cellRow(ship, cell);
+                var column = cellColumn(ship, cell);
+                if (row < 0 || row >= size || column < 0 || column >= size || taken[row][column]) {
+                    return false;
+                }
+                taken[row][column] = true;
+            }
+        }
+        return true;
+    }
+
+    private static char[][] toBoard(String state) {
+        var rows = state.split("\\|");
+        var board = new char[rows.length][];
+        for (int row = 0; row < rows.length; row++) {
+            board[row] = rows[row].toCharArray();
+        }
+        return board;
+    }
+
+    private static String toState(char[][] board) {
+        var builder = new StringBuilder();
+        for (int row = 0; row < board.length; row++) {
+            if (row > 0) {
+                builder.append('|');
+            }
+            builder.append(board[row]);
+        }
+        return builder.toString();
+    }
+
+    private static Ship shipAt(List<Ship> ships, int row, int column) {
+        for (var ship : ships) {
+            for (int cell = 0; cell < ship.getSize(); cell++) {
+                if (cellRow(ship, cell) == row && cellColumn(ship, cell) == column) {
+                    return ship;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static boolean allCellsMatch(char[][] board, Ship ship, char field) {
+        for (int cell = 0; cell < ship.getSize(); cell++) {
+            if (board[cellRow(ship, cell)][cellColumn(ship, cell)] != field) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void mark(char[][] board, Ship ship, char field) {
+        for (int cell = 0; cell < ship.getSize(); cell++) {
+            board[cellRow(ship, cell)][cellColumn(ship, cell)] = field;
+        }
+    }
+
+    private static int cellRow(Ship ship, int cell) {
+        return ship.getOrientation() == ShipOrientation.Vertical ? ship.getHeadX() + cell : ship.getHeadX();
+    }
+
+    private static int cellColumn(Ship ship, int cell) {
+        return ship.getOrientation() == ShipOrientation.Vertical ? ship.getHeadY() : ship.getHeadY() + cell;
+    }
+}
@@ -0,0 +1,104 @@
+package io.github.xpakx.battleships.loadtest.stub;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.xpakx.battleships.loadtest.dto.EnginePlacementEvent;
+import io.github.xpakx.battleships.loadtest.dto.MoveEvent;
+import io.github.xpakx.battleships.loadtest.dto.PlacementEvent;
+import io.github.xpakx.battleships.loadtest.dto.Ship;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.core.AmqpTemplate;
+import org.springframework.amqp.core.MessagePostProcessor;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@ConditionalOnProperty(name = "loadtest.stub.engine", havingValue = "true")
+public class StubEngine {
+    private static final String TRACEPARENT = "traceparent";
+    private final AmqpTemplate template;
+    private final String engineTopic;
+    private final int boardSize;
+    private final ObjectMapper mapper = new ObjectMapper();
+    Logger logger = LoggerFactory.getLogger(StubEngine.class);
+
+    public StubEngine(
+            AmqpTemplate template,
+            @Value("${amqp.exchange.engine}") String engineTopic,
+            @Value("${loadtest.board-size}") int boardSize
+    ) {
+        this.template = template;
+        this.engineTopic = engineTopic;
+        this.boardSize = boardSize;
+    }
+
+    @RabbitListener(queues = "${amqp.queue.moves}")
+    void handleMove(
+            final MoveEvent event,
+            @Header(name = AmqpHeaders.CORRELATION_ID, required = false) String correlationId,
+            @Header(name = TRACEPARENT, required = false) String traceparent
+    ) {
+        try {
+            var result = ShotRules.shoot(
+                    event.getGameId(),
+                    event.getRow(),
+                    event.getColumn(),
+                    event.getGameState(),
+                    parseShips(event.getTargets())
+            );
+            template.convertAndSend(engineTopic, "validation.move." + event.getGameId(), result, reply(correlationId, traceparent));
+        } catch (final Exception e) {
+            throw new AmqpRejectAndDontRequeueException(e);
+        }
+    }
+
+    @RabbitListener(queues = "${amqp.queue.placement}")
+    void handlePlacement(
+            final PlacementEvent event,
+            @Header(name = AmqpHeaders.CORRELATION_ID, required = false) String correlationId,
+            @Header(name = TRACEPARENT, required = false) String traceparent
+    ) {
+        try {
+            var result = new EnginePlacementEvent();
+            result.setGameId(event.getGameId());
+            result.setFirstUser(event.isFirstUser());
+            result.setShips(event.getShips());
+            result.setLegal(ShotRules.isPlacementLegal(parseShips(event.getShips()), boardSize));
+            template.convertAndSend(engineTopic, "placement." + event.getGameId(), result, reply(correlationId, traceparent));
+        } catch (final Exception e) {
+            throw new AmqpRejectAndDontRequeueException(e);
+        }
+    }
+
+    private List<Ship> parseShips(String ships) {
+        if (ships == null) {
+            return null;
+        }
+        try {
+            return mapper.readValue(ships, new TypeReference<>(){});
+        } catch (Exception e) {
+            logger.debug("Malformed ships: {}", ships);
+            return null;
+        }
+    }
+
+    private MessagePostProcessor reply(String correlationId, String traceparent) {
+        return (message) -> {
+            if (correlationId != null) {
+                message.getMessageProperties().setCorrelationId(correlationId);
+            }
+            if (traceparent != null) {
+                message.getMessageProperties().setHeader(TRACEPARENT, traceparent);
+            }
+            return message;
+        };
+    }
+}
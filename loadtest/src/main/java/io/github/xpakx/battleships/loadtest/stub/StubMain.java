@@ -0,0 +1,92 @@
+package io.github.xpakx.battleships.loadtest.stub;
+
+import io.github.xpakx.battleships.loadtest.LoadReport;
+import io.github.xpakx.battleships.loadtest.ScriptedGames;
+import io.github.xpakx.battleships.loadtest.dto.GameEvent;
+import io.github.xpakx.battleships.loadtest.dto.StateBatchEvent;
+import io.github.xpakx.battleships.loadtest.dto.StateEvent;
+import io.github.xpakx.battleships.loadtest.dto.WarmupEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.AmqpTemplate;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@ConditionalOnProperty(name = "loadtest.stub.main", havingValue = "true")
+public class StubMain {
+    private final AmqpTemplate template;
+    private final ScriptedGames games;
+    private final LoadReport report;
+    private final String stateTopic;
+    private final String emptyState;
+    Logger logger = LoggerFactory.getLogger(StubMain.class);
+
+    public StubMain(
+            AmqpTemplate template,
+            ScriptedGames games,
+            LoadReport report,
+            @Value("${amqp.exchange.state}") String stateTopic,
+            @Value("${loadtest.board-size}") int boardSize
+    ) {
+        this.template = template;
+        this.games = games;
+        this.report = report;
+        this.stateTopic = stateTopic;
+        this.emptyState = emptyState(boardSize);
+    }
+
+    @RabbitListener(queues = "${amqp.queue.games}")
+    void handleGame(final GameEvent event) {
+        var game = games.get(event.getGameId());
+        var state = new StateEvent();
+        state.setId(event.getGameId());
+        if (game == null) {
+            logger.debug("Game {} is not scripted", event.getGameId());
+            state.setError(true);
+            state.setErrorMessage("No such game!");
+        } else {
+            state.setUsername1(game.getUsername1());
+            state.setUsername2(game.getUsername2());
+            state.setUserCurrentState(emptyState);
+            state.setOpponentCurrentState(emptyState);
+            state.setUserShips("[]");
+            state.setOpponentShips("[]");
+            state.setRuleset("Classic");
+            state.setAiType("None");
+            state.setFirstUserStarts(game.isFirstUserStarts());
+            state.setFirstUserTurn(game.isFirstUserStarts());
+        }
+        template.convertAndSend(stateTopic, "state", state);
+    }
+
+    @RabbitListener(queues = "${amqp.queue.warmup}")
+    void handleWarmup(final WarmupEvent event) {
+        var batch = new StateBatchEvent();
+        batch.setGames(List.of());
+        batch.setLast(true);
+        template.convertAndSend(stateTopic, "state.batch", batch);
+    }
+
+    @RabbitListener(queues = "${amqp.queue.updates}")
+    void handleUpdate(final Message message) {
+        report.updateReceived();
+    }
+
+    private static String emptyState(int size) {
+        var row = "?".repeat(size);
+        var builder = new StringBuilder();
+        for (int i = 0; i < size; i++) {
+            builder.append(row);
+            if (i < size - 1) {
+                builder.append("|");
+            }
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,75 @@
+package io.github.xpakx.battleships.loadtest.stub;
+
+import io.github.xpakx.battleships.loadtest.dto.MoveResult;
+import io.github.xpakx.battleships.loadtest.dto.Ship;
+import io.github.xpakx.battleships.loadtest.dto.ShipOrientation;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+class ShotRulesTest {
+    private final List<Ship> ships = List.of(
+            ship(0, 0, 2, ShipOrientation.Horizontal),
+            ship(1, 2, 2, ShipOrientation.Vertical)
+    );
+
+    private static Ship ship(int headX, int headY, int size, ShipOrientation orientation) {
+        var ship = new Ship();
+        ship.setHeadX(headX);
+        ship.setHeadY(headY);
+        ship.setSize(size);
+        ship.setOrientation(orientation);
+        return ship;
+    }
+
+    @Test
+    void shouldMarkMiss() {
+        var result = ShotRules.shoot(1L, 2, 0, "???|???|???", ships);
+
+        assertThat(result.isLegal(), is(true));
+        assertThat(result.getResult(), equalTo(MoveResult.Miss));
+        assertThat(result.isFinished(), is(false));
+        assertThat(result.getNewState(), equalTo("???|???|o??"));
+    }
+
+    @Test
+    void shouldSinkShip() {
+        var result = ShotRules.shoot(1L, 2, 2, "???|??.|???", ships);
+
+        assertThat(result.isLegal(), is(true));
+        assertThat(result.getResult(), equalTo(MoveResult.Sunk));
+        assertThat(result.isFinished(), is(false));
+        assertThat(result.getNewState(), equalTo("???|??x|??x"));
+    }
+
+    @Test
+    void shouldFinishGameAfterLastShipIsSunk() {
+        var result = ShotRules.shoot(1L, 0, 0, "?.?|??x|??x", ships);
+
+        assertThat(result.getResult(), equalTo(MoveResult.Sunk));
+        assertThat(result.isFinished(), is(true));
+        assertThat(result.getNewState(), equalTo("xx?|??x|??x"));
+    }
+
+    @Test
+    void shouldRejectShotAtAlreadyShotField() {
+        var result = ShotRules.shoot(1L, 0, 1, "?.?|???|???", ships);
+
+        assertThat(result.isLegal(), is(false));
+    }
+
+    @Test
+    void shouldRejectOverlappingPlacement() {
+        var overlapping = List.of(
+                ship(0, 0, 3, ShipOrientation.Horizontal),
+                ship(0, 2, 2, ShipOrientation.Vertical)
+        );
+
+        assertThat(ShotRules.isPlacementLegal(overlapping, 10), is(false));
+        assertThat(ShotRules.isPlacementLegal(ships, 3), is(true));
+    }
+}
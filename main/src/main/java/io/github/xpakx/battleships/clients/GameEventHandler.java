@@ -24,7 +24,7 @@ public class GameEventHandler {
             game.ifPresent(publisher::sendGame);
             if (game.isEmpty()) {
                 logger.debug("Game {} not found", event.getGameId());
-                publisher.sendError("No such game!");
+                publisher.sendError(event.getGameId(), "No such game!");
             }
         } catch (final Exception e) {
             throw new AmqpRejectAndDontRequeueException(e);
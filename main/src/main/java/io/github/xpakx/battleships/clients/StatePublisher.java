@@ -1,5 +1,6 @@
 package io.github.xpakx.battleships.clients;
 
+import io.github.xpakx.battleships.clients.event.StateBatchEvent;
 import io.github.xpakx.battleships.clients.event.StateEvent;
 import io.github.xpakx.battleships.game.Game;
 import io.github.xpakx.battleships.game.GameType;
@@ -7,6 +8,8 @@ import org.springframework.amqp.core.AmqpTemplate;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Service
 public class StatePublisher {
     private final AmqpTemplate template;
@@ -18,6 +21,18 @@ public class StatePublisher {
     }
 
     public void sendGame(Game game) {
+        template.convertAndSend(stateTopic, "state", toEvent(game));
+    }
+
+    public void sendGames(List<Game> games, long total, boolean last) {
+        StateBatchEvent event = new StateBatchEvent();
+        event.setGames(games.stream().map(this::toEvent).toList());
+        event.setTotal(total);
+        event.setLast(last);
+        template.convertAndSend(stateTopic, "state.batch", event);
+    }
+
+    private StateEvent toEvent(Game game) {
         StateEvent event = new StateEvent();
         event.setId(game.getId());
         event.setFinished(game.isFinished());
@@ -44,11 +59,12 @@ public class StatePublisher {
         event.setOpponentCurrentState(game.getOpponentCurrentState());
         event.setUserShips(game.getUserShips());
         event.setOpponentShips(game.getOpponentShips());
-        template.convertAndSend(stateTopic, "state", event);
+        return event;
     }
 
-    public void sendError(String msg) {
+    public void sendError(Long gameId, String msg) {
         StateEvent event = new StateEvent();
+        event.setId(gameId);
         event.setError(true);
         event.setErrorMessage(msg);
         template.convertAndSend(stateTopic, "state", event);
@@ -0,0 +1,45 @@
+package io.github.xpakx.battleships.clients;
+
+import io.github.xpakx.battleships.clients.event.WarmupEvent;
+import io.github.xpakx.battleships.game.GameRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class WarmupEventHandler {
+    private final StatePublisher publisher;
+    private final GameRepository repository;
+    private static final int DEFAULT_PAGE_SIZE = 500;
+
+    Logger logger = LoggerFactory.getLogger(WarmupEventHandler.class);
+    @RabbitListener(queues = "${amqp.queue.warmup}")
+    void handleWarmup(final WarmupEvent event) {
+        var pageSize = event.getPageSize() > 0 ? event.getPageSize() : DEFAULT_PAGE_SIZE;
+        logger.debug("Got warm-up request with page size {}", pageSize);
+        try {
+            var start = System.currentTimeMillis();
+            var total = repository.countActiveGames();
+            var lastId = 0L;
+            var sent = 0L;
+            boolean last;
+            do {
+                var games = repository.findActiveGamesAfter(lastId, PageRequest.of(0, pageSize));
+                last = games.size() < pageSize;
+                publisher.sendGames(games, total, last);
+                sent += games.size();
+                if (!games.isEmpty()) {
+                    lastId = games.get(games.size() - 1).getId();
+                }
+            } while (!last);
+            logger.info("Sent {} active games for warm-up in {} ms", sent, System.currentTimeMillis() - start);
+        } catch (final Exception e) {
+            throw new AmqpRejectAndDontRequeueException(e);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package io.github.xpakx.battleships.clients.event;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class StateBatchEvent {
+    private List<StateEvent> games;
+    private long total;
+    private boolean last;
+}
@@ -1,9 +1,11 @@
 package io.github.xpakx.battleships.game;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -30,9 +32,22 @@ public interface GameRepository extends JpaRepository<Game, Long> {
             "and g.accepted = true and g.finished = true")
     List<Game> findFinishedGames(Long id);
 
+    @Query("select g from Game g " +
+            "left join fetch g.user " +
+            "left join fetch g.opponent " +
+            "where g.id > ?1 and g.accepted = true and g.finished = false " +
+            "order by g.id")
+    List<Game> findActiveGamesAfter(Long id, Pageable pageable);
+
+    @Query("select count(g) from Game g where g.accepted = true and g.finished = false")
+    long countActiveGames();
+
     @EntityGraph(attributePaths = {"user", "opponent"})
     Optional<Game> findWithUsersById(Long id);
 
+    @EntityGraph(attributePaths = {"user", "opponent"})
+    List<Game> findWithUsersByIdIn(Collection<Long> ids);
+
     @EntityGraph(attributePaths = {"opponent"})
     Optional<Game> findWithOpponentById(Long id);
 }
@@ -8,16 +8,22 @@ import io.github.xpakx.battleships.game.error.UserNotFoundException;
 import io.github.xpakx.battleships.user.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Random;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class GameService {
     private final GameRepository gameRepository;
     private final UserRepository userRepository;
+    private final MoveService moveService;
 
     public NewGameResponse newGame(String username, GameRequest request) {
         Game game;
@@ -125,7 +131,26 @@ public class GameService {
         return decision.isAccepted();
     }
 
-    public void updateGame(Game game, UpdateEvent event) {
+    @Transactional
+    public Collection<Game> updateGames(List<UpdateEvent> events) {
+        var ids = events.stream().map(UpdateEvent::getGameId).collect(Collectors.toSet());
+        var games = gameRepository.findWithUsersByIdIn(ids).stream()
+                .collect(Collectors.toMap(Game::getId, Function.identity()));
+        var moves = new ArrayList<Move>();
+        for (var event : events) {
+            var game = games.get(event.getGameId());
+            if (game == null) {
+                continue;
+            }
+            updateGame(game, event);
+            moves.add(moveService.createMove(game, event));
+        }
+        gameRepository.saveAll(games.values());
+        moveService.saveMoves(moves);
+        return games.values();
+    }
+
+    private void updateGame(Game game, UpdateEvent event) {
         game.setLastMoveAt(LocalDateTime.now());
 
         game.setFinished(event.isFinished());
@@ -140,7 +165,6 @@ public class GameService {
 
         game.setUserTurn(event.isUserTurn());
         game.setLastMoveAt(event.getTimestamp());
-        gameRepository.save(game);
     }
 
     public GameSummary getGame(String username, Long gameId) {
@@ -15,14 +15,9 @@ public class MoveService {
     private final GameRepository gameRepository;
     private final UserRepository userRepository;
 
-    public void saveMove(UpdateEvent event) {
-        var gameOpt = gameRepository.findWithUsersById(event.getGameId());
-        if (gameOpt.isEmpty()) {
-            return;
-        }
-        var game = gameOpt.get();
+    public Move createMove(Game game, UpdateEvent event) {
         var move = new Move();
-        move.setGame(gameRepository.getReferenceById(event.getGameId()));
+        move.setGame(game);
         move.setRow(event.getLastMoveX());
         move.setColumn(event.getLastMoveY());
         move.setTimestamp(event.getTimestamp());
@@ -33,7 +28,11 @@ public class MoveService {
         } else {
             move.setUser(game.getOpponent());
         }
-        moveRepository.save(move);
+        return move;
+    }
+
+    public void saveMoves(List<Move> moves) {
+        moveRepository.saveAll(moves);
     }
 
     public List<Move> getMoveHistory(Long gameId) {
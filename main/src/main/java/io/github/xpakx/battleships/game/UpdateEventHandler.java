@@ -1,35 +1,49 @@
 package io.github.xpakx.battleships.game;
 
-import io.github.xpakx.battleships.clients.GameEventHandler;
 import io.github.xpakx.battleships.game.dto.UpdateEvent;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.core.AmqpTemplate;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class UpdateEventHandler {
     private final GameService service;
-    private final GameRepository repository;
-    private final MoveService moveService;
+    private final UpdateMetrics metrics;
+    private final AmqpTemplate template;
+
+    @Value("${amqp.queue.updates.dead}")
+    private String deadLetterQueue;
 
-    Logger logger = LoggerFactory.getLogger(GameEventHandler.class);
+    Logger logger = LoggerFactory.getLogger(UpdateEventHandler.class);
+
+    @RabbitListener(queues = "${amqp.queue.updates}", containerFactory = "batchListenerContainerFactory")
+    void handleGame(final List<UpdateEvent> events) {
+        logger.debug("Got batch of {} update events", events.size());
+        try {
+            var start = System.nanoTime();
+            var games = service.updateGames(events);
+            metrics.batchPersisted(games, events.size(), start);
+        } catch (final Exception e) {
+            logger.warn("Batch of {} update events failed, applying them one by one: {}", events.size(), e.getMessage());
+            events.forEach(this::handleSingle);
+        }
+    }
 
-    @RabbitListener(queues = "${amqp.queue.updates}")
-    void handleGame(final UpdateEvent event) {
-        logger.debug("Got update event for game {}", event.getGameId());
+    private void handleSingle(UpdateEvent event) {
         try {
-            var game = repository.findById(event.getGameId());
-            game.ifPresent((g) -> {
-                        service.updateGame(g, event);
-                        moveService.saveMove(event);
-                    }
-            );
+            var start = System.nanoTime();
+            var games = service.updateGames(List.of(event));
+            metrics.batchPersisted(games, 1, start);
         } catch (final Exception e) {
-            throw new AmqpRejectAndDontRequeueException(e);
+            logger.error("Update event for game {} failed, moving it to {}", event.getGameId(), deadLetterQueue, e);
+            template.convertAndSend("", deadLetterQueue, event);
         }
     }
 }
@@ -0,0 +1,48 @@
+package io.github.xpakx.battleships.game;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class UpdateMetrics {
+    private final MeterRegistry registry;
+    private final Map<String, Timer> persistTimers = new ConcurrentHashMap<>();
+    private final DistributionSummary batchSize;
+
+    public UpdateMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.batchSize = DistributionSummary.builder("main.update.batch.size")
+                .description("Update events persisted in one transaction")
+                .register(registry);
+    }
+
+    public void batchPersisted(Collection<Game> games, int events, long start) {
+        var duration = System.nanoTime() - start;
+        batchSize.record(events);
+        games.stream()
+                .map((game) -> persistTimer(game.getRuleset(), game.getAiType()))
+                .distinct()
+                .forEach((timer) -> timer.record(duration, TimeUnit.NANOSECONDS));
+    }
+
+    private Timer persistTimer(GameRuleset ruleset, AIType aiType) {
+        var rulesetTag = ruleset != null ? ruleset.name() : "unknown";
+        var aiTag = aiType != null ? aiType.name() : "unknown";
+        return persistTimers.computeIfAbsent(
+                rulesetTag + ":" + aiTag,
+                (key) -> Timer.builder("main.update.persist")
+                        .description("Time to persist a batch of game updates and moves")
+                        .tag("ruleset", rulesetTag)
+                        .tag("ai", aiTag)
+                        .publishPercentiles(0.5, 0.99, 0.999)
+                        .register(registry)
+        );
+    }
+}
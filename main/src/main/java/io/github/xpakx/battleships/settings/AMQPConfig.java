@@ -4,8 +4,14 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
 import org.springframework.amqp.core.*;
 import org.springframework.amqp.rabbit.annotation.RabbitListenerConfigurer;
+import org.springframework.amqp.rabbit.config.ContainerCustomizer;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.amqp.RabbitTemplateCustomizer;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.converter.MappingJackson2MessageConverter;
@@ -35,6 +41,16 @@ public class AMQPConfig {
         return new Jackson2JsonMessageConverter();
     }
 
+    @Bean
+    public RabbitTemplateCustomizer observationTemplateCustomizer() {
+        return (template) -> template.setObservationEnabled(true);
+    }
+
+    @Bean
+    public ContainerCustomizer<SimpleMessageListenerContainer> observationContainerCustomizer() {
+        return (container) -> container.setObservationEnabled(true);
+    }
+
     @Bean
     public TopicExchange gamesTopicExchange(@Value("${amqp.exchange.games}") final String exchangeName) {
         return ExchangeBuilder.topicExchange(exchangeName).durable(true).build();
@@ -52,6 +68,18 @@ public class AMQPConfig {
                 .with("game");
     }
 
+    @Bean
+    public Queue warmupQueue(@Value("${amqp.queue.warmup}") final String queueName) {
+        return QueueBuilder.durable(queueName).build();
+    }
+
+    @Bean
+    public Binding warmupBinding(final Queue warmupQueue, final TopicExchange gamesTopicExchange) {
+        return BindingBuilder.bind(warmupQueue)
+                .to(gamesTopicExchange)
+                .with("warmup");
+    }
+
     @Bean
     public TopicExchange updatesTopicExchange(@Value("${amqp.exchange.updates}") final String exchangeName) {
         return ExchangeBuilder.topicExchange(exchangeName).durable(true).build();
@@ -62,6 +90,11 @@ public class AMQPConfig {
         return QueueBuilder.durable(queueName).build();
     }
 
+    @Bean
+    public Queue updatesDeadLetterQueue(@Value("${amqp.queue.updates.dead}") final String queueName) {
+        return QueueBuilder.durable(queueName).build();
+    }
+
     @Bean
     public Binding updatesBinding(final Queue updatesQueue, final TopicExchange updatesTopicExchange) {
         return BindingBuilder.bind(updatesQueue)
@@ -69,6 +102,23 @@ public class AMQPConfig {
                 .with("update");
     }
 
+    @Bean
+    public SimpleRabbitListenerContainerFactory batchListenerContainerFactory(
+            final SimpleRabbitListenerContainerFactoryConfigurer configurer,
+            final ConnectionFactory connectionFactory,
+            @Value("${amqp.updates.batch-size}") final int batchSize,
+            @Value("${amqp.updates.receive-timeout-ms}") final long receiveTimeout
+    ) {
+        var factory = new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(batchSize);
+        factory.setPrefetchCount(batchSize);
+        factory.setReceiveTimeout(receiveTimeout);
+        return factory;
+    }
+
     @Bean
     public MessageHandlerMethodFactory messageHandlerMethodFactory() {
         DefaultMessageHandlerMethodFactory factory = new DefaultMessageHandlerMethodFactory();
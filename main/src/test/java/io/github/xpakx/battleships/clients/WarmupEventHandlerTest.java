@@ -0,0 +1,68 @@
+package io.github.xpakx.battleships.clients;
+
+import io.github.xpakx.battleships.clients.event.WarmupEvent;
+import io.github.xpakx.battleships.game.Game;
+import io.github.xpakx.battleships.game.GameRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class WarmupEventHandlerTest {
+    StatePublisher publisher;
+    GameRepository repository;
+    WarmupEventHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        publisher = mock(StatePublisher.class);
+        repository = mock(GameRepository.class);
+        handler = new WarmupEventHandler(publisher, repository);
+    }
+
+    @Test
+    void shouldSendActiveGamesInPages() {
+        var page1 = List.of(getGame(1L), getGame(2L));
+        var page2 = List.of(getGame(5L));
+        when(repository.countActiveGames()).thenReturn(3L);
+        when(repository.findActiveGamesAfter(0L, PageRequest.of(0, 2))).thenReturn(page1);
+        when(repository.findActiveGamesAfter(2L, PageRequest.of(0, 2))).thenReturn(page2);
+
+        handler.handleWarmup(getEvent(2));
+
+        InOrder inOrder = inOrder(publisher);
+        inOrder.verify(publisher).sendGames(page1, 3L, false);
+        inOrder.verify(publisher).sendGames(page2, 3L, true);
+        verifyNoMoreInteractions(publisher);
+    }
+
+    @Test
+    void shouldSendLastEmptyPage() {
+        var page = List.of(getGame(1L), getGame(2L));
+        when(repository.countActiveGames()).thenReturn(2L);
+        when(repository.findActiveGamesAfter(eq(0L), any())).thenReturn(page);
+        when(repository.findActiveGamesAfter(eq(2L), any())).thenReturn(List.of());
+
+        handler.handleWarmup(getEvent(2));
+
+        verify(publisher).sendGames(page, 2L, false);
+        verify(publisher).sendGames(List.of(), 2L, true);
+    }
+
+    private WarmupEvent getEvent(int pageSize) {
+        var event = new WarmupEvent();
+        event.setPageSize(pageSize);
+        return event;
+    }
+
+    private Game getGame(Long id) {
+        var game = new Game();
+        game.setId(id);
+        return game;
+    }
+}
@@ -0,0 +1,59 @@
+package io.github.xpakx.battleships.game;
+
+import io.github.xpakx.battleships.game.dto.UpdateEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.AmqpTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class UpdateEventHandlerBatchTest {
+    GameService service;
+    AmqpTemplate template;
+    UpdateEventHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        service = mock(GameService.class);
+        template = mock(AmqpTemplate.class);
+        handler = new UpdateEventHandler(service, mock(UpdateMetrics.class), template);
+        ReflectionTestUtils.setField(handler, "deadLetterQueue", "dead");
+    }
+
+    @Test
+    void shouldApplyRestOfBatchIfOneEventIsPoisoned() {
+        var first = getEvent(1L);
+        var poisoned = getEvent(2L);
+        var last = getEvent(3L);
+        when(service.updateGames(argThat((events) -> events.contains(poisoned))))
+                .thenThrow(new IllegalStateException("constraint violation"));
+
+        handler.handleGame(List.of(first, poisoned, last));
+
+        verify(service).updateGames(List.of(first));
+        verify(service).updateGames(List.of(last));
+        verify(template).convertAndSend("", "dead", poisoned);
+        verify(template, never()).convertAndSend(eq(""), eq("dead"), same(first));
+        verify(template, never()).convertAndSend(eq(""), eq("dead"), same(last));
+    }
+
+    @Test
+    void shouldNotRetryEventsOneByOneIfBatchSucceeds() {
+        var events = List.of(getEvent(1L), getEvent(2L));
+
+        handler.handleGame(events);
+
+        verify(service, times(1)).updateGames(anyList());
+        verifyNoInteractions(template);
+    }
+
+    private UpdateEvent getEvent(Long gameId) {
+        var event = new UpdateEvent();
+        event.setGameId(gameId);
+        return event;
+    }
+}
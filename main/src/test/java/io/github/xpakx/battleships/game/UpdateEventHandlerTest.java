@@ -173,6 +173,41 @@ class UpdateEventHandlerTest {
         assertThat(moves.get(0).getTimestamp(), equalTo(LocalDateTime.of(1993, Month.SEPTEMBER, 1, 13, 0)));
     }
 
+    @Test
+    public void shouldApplyAllUpdatesFromBatch() {
+        var opponentId = createUser("opponent");
+        var gameId = createGame(userId, opponentId, false);
+        var first = new UpdateEvent();
+        first.setGameId(gameId);
+        first.setUserCurrentState("first state");
+        first.setOpponentCurrentState("first opponent state");
+        first.setUserShips("{}");
+        first.setOpponentShips("{}");
+        first.setLastMoveX(1);
+        first.setLastMoveY(1);
+        first.setTimestamp(LocalDateTime.of(1993, Month.SEPTEMBER, 1, 13, 0));
+        var second = new UpdateEvent();
+        second.setGameId(gameId);
+        second.setUserCurrentState("second state");
+        second.setOpponentCurrentState("second opponent state");
+        second.setUserShips("{}");
+        second.setOpponentShips("{}");
+        second.setLastMoveX(2);
+        second.setLastMoveY(2);
+        second.setTimestamp(LocalDateTime.of(1993, Month.SEPTEMBER, 1, 13, 1));
+        rabbitTemplate.convertAndSend(updateExchange, "update", first);
+        rabbitTemplate.convertAndSend(updateExchange, "update", second);
+        await()
+                .atMost(5, TimeUnit.SECONDS)
+                .until(() -> moveRepository.count(), Matchers.equalTo(2L));
+        var gameOpt = gameRepository.findById(gameId);
+        assert(gameOpt.isPresent());
+        assertThat(gameOpt.get().getUserCurrentState(), equalTo("second state"));
+        var moves = moveRepository.findByGameIdOrderByTimestampAsc(gameId);
+        assertThat(moves.get(0).getRow(), equalTo(1));
+        assertThat(moves.get(1).getRow(), equalTo(2));
+    }
+
     private Callable<Boolean> isMessageConsumed() {
         return () ->
                 mockingDetails(updateHandler).getInvocations().stream()
@@ -0,0 +1,42 @@
+package io.github.xpakx.battleships.game;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+class UpdateMetricsTest {
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    UpdateMetrics metrics = new UpdateMetrics(meterRegistry);
+
+    @Test
+    void shouldRecordBatchOncePerRulesetAndAI() {
+        var games = List.of(
+                getGame(GameRuleset.Classic, AIType.Random),
+                getGame(GameRuleset.Classic, AIType.Random),
+                getGame(GameRuleset.Polish, AIType.None)
+        );
+
+        metrics.batchPersisted(games, 5, System.nanoTime());
+
+        assertThat(
+                meterRegistry.get("main.update.persist").tag("ruleset", "Classic").tag("ai", "Random").timer().count(),
+                equalTo(1L)
+        );
+        assertThat(
+                meterRegistry.get("main.update.persist").tag("ruleset", "Polish").tag("ai", "None").timer().count(),
+                equalTo(1L)
+        );
+        assertThat(meterRegistry.get("main.update.batch.size").summary().totalAmount(), equalTo(5.0));
+    }
+
+    private Game getGame(GameRuleset ruleset, AIType aiType) {
+        var game = new Game();
+        game.setRuleset(ruleset);
+        game.setAiType(aiType);
+        return game;
+    }
+}